@@ -0,0 +1,79 @@
+package com.board.manager.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts board reads in memory and periodically adds them to a shared Redis sorted set.
+ * The set survives restarts, so a starting node can warm the cache for the most-read boards. It is capped at
+ * the top boards so it stays small.
+ */
+@Slf4j
+@Component
+public class BoardAccessTracker {
+
+    private static final String ACCESS_KEY = "boards:access";
+    private static final int MAX_TRACKED_BOARDS = 10_000;
+
+    private final StringRedisTemplate redisTemplate;
+    private final Map<Integer, LongAdder> pending = new ConcurrentHashMap<>();
+
+    public BoardAccessTracker(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    public void record(Integer boardId) {
+        pending.computeIfAbsent(boardId, id -> new LongAdder()).increment();
+    }
+
+    @Scheduled(fixedDelayString = "${app.cache.access.flush-interval-ms:30000}")
+    public void flush() {
+        Map<Integer, Long> counts = new HashMap<>();
+        pending.forEach((boardId, adder) -> {
+            long count = adder.sumThenReset();
+            if (count > 0) {
+                counts.put(boardId, count);
+            }
+        });
+        if (counts.isEmpty()) {
+            return;
+        }
+        try {
+            byte[] key = ACCESS_KEY.getBytes(StandardCharsets.UTF_8);
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                counts.forEach((boardId, count) ->
+                        connection.zSetCommands().zIncrBy(key, count, String.valueOf(boardId).getBytes(StandardCharsets.UTF_8)));
+                connection.zSetCommands().zRemRange(key, 0, -(MAX_TRACKED_BOARDS + 1));
+                return null;
+            });
+        } catch (Exception e) {
+            // Counts are only a warm-up hint; dropping one interval is fine
+            log.warn("Failed to flush board access counts: {}", e.getMessage());
+        }
+    }
+
+    public List<Integer> topBoards(int limit) {
+        Set<String> boardIds = redisTemplate.opsForZSet().reverseRange(ACCESS_KEY, 0, limit - 1);
+        if (boardIds == null) {
+            return List.of();
+        }
+        return boardIds.stream().map(Integer::valueOf).toList();
+    }
+
+    public void forget(Integer boardId) {
+        pending.remove(boardId);
+        redisTemplate.opsForZSet().remove(ACCESS_KEY, String.valueOf(boardId));
+    }
+}
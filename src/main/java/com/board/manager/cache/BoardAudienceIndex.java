@@ -0,0 +1,226 @@
+package com.board.manager.cache;
+
+import com.board.manager.dto.CacheInvalidationStatsDto;
+import com.board.manager.model.User;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Reverse index from board id to the per-user keys of the "boards" and "boardSummaries" caches whose lists
+ * include that board. A change to a board then evicts only those entries and every admin entry, since admins
+ * see all boards, instead of clearing both caches.
+ * An eviction can run while a list is being loaded, before it is cached. Every board and user eviction therefore
+ * bumps a generation, and a loaded list is dropped again right after it is cached when a generation it depends on
+ * moved past the one read before the load.
+ */
+@Slf4j
+@Component
+public class BoardAudienceIndex {
+
+    private static final List<String> USER_LIST_CACHES = List.of("boards", "boardSummaries");
+    // Outlives the 15 minute "boards" entries it points at
+    private static final Duration AUDIENCE_TTL = Duration.ofMinutes(20);
+    // Only needs to outlive a board list load
+    private static final Duration GENERATION_TTL = Duration.ofMinutes(5);
+
+    // Stamps the board with a fresh global generation; atomic, so a board's stamps only grow
+    private static final RedisScript<Long> BUMP_BOARD_SCRIPT = new DefaultRedisScript<>("""
+            local generation = redis.call('INCR', KEYS[1])
+            redis.call('SET', KEYS[2], generation, 'EX', ARGV[1])
+            return generation
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final CacheManager cacheManager;
+    private final String audiencePrefix;
+    private final String adminAudienceKey;
+    private final String generationKey;
+    private final String boardGenerationPrefix;
+    private final String userGenerationPrefix;
+
+    private final LongAdder targetedEvictions = new LongAdder();
+    private final LongAdder globalClears = new LongAdder();
+
+    public BoardAudienceIndex(StringRedisTemplate redisTemplate, CacheManager cacheManager,
+                              @Value("${app.cache.key-version:1}") String keyVersion) {
+        this.redisTemplate = redisTemplate;
+        this.cacheManager = cacheManager;
+        // Versioned like the cache entries the audience points at
+        String prefix = "v" + keyVersion + "::boards:";
+        this.audiencePrefix = prefix + "audience:";
+        this.adminAudienceKey = audiencePrefix + "admins";
+        this.generationKey = prefix + "gen";
+        this.boardGenerationPrefix = prefix + "gen:board:";
+        this.userGenerationPrefix = prefix + "gen:user:";
+    }
+
+    public static String cacheKey(Integer userId, User.Role role) {
+        return userId + "_" + role.name();
+    }
+
+    /**
+     * Returns the user's board list from one of the per-user list caches, loading it on a miss and recording which
+     * boards it contains. The list is evicted again at once if a board in it, or the user's own boards, changed
+     * while it was loaded.
+     */
+    public <T> T getOrLoad(String cacheName, User user, Supplier<T> loader, Function<T, Collection<Integer>> boardIds) {
+        String cacheKey = cacheKey(user.getId(), user.getRole());
+        Cache cache = Objects.requireNonNull(cacheManager.getCache(cacheName));
+        List<Load> loads = new ArrayList<>(1);
+        T value = cache.get(cacheKey, () -> {
+            List<String> before = readGenerations(List.of(generationKey, userGenerationPrefix + user.getId()));
+            T loaded = loader.get();
+            Collection<Integer> ids = boardIds.apply(loaded);
+            loads.add(new Load(before, ids, record(user, cacheKey, ids)));
+            return loaded;
+        });
+        if (!loads.isEmpty() && !isCurrent(user, loads.get(0))) {
+            log.debug("Board list {} changed while it was loaded, evicting it", cacheKey);
+            cache.evict(cacheKey);
+        }
+        return value;
+    }
+
+    /**
+     * Evicts the cached board lists of everyone who can see the board.
+     */
+    public void evictBoard(Integer boardId) {
+        String audienceKey = audiencePrefix + boardId;
+        Set<String> keys = new HashSet<>();
+        try {
+            // Before reading the audience, so a list loaded meanwhile either shows up in it or sees the bump
+            redisTemplate.execute(BUMP_BOARD_SCRIPT, List.of(generationKey, boardGenerationPrefix + boardId),
+                    String.valueOf(GENERATION_TTL.toSeconds()));
+            Set<String> members = redisTemplate.opsForSet().members(audienceKey);
+            if (members != null && !members.isEmpty()) {
+                keys.addAll(members);
+                // Remove only what was read, so entries recorded after this point survive
+                redisTemplate.opsForSet().remove(audienceKey, members.toArray());
+            }
+            keys.addAll(Objects.requireNonNullElse(redisTemplate.opsForSet().members(adminAudienceKey), Set.of()));
+        } catch (Exception e) {
+            log.warn("Failed to read audience of board {}, clearing board lists: {}", boardId, e.getMessage());
+            clearAll();
+            return;
+        }
+        keys.forEach(this::evictKey);
+        log.debug("Evicted {} cached board lists for board {}", keys.size(), boardId);
+    }
+
+    public void evictUser(Integer userId) {
+        try {
+            String key = userGenerationPrefix + userId;
+            redisTemplate.opsForValue().increment(key);
+            redisTemplate.expire(key, GENERATION_TTL);
+        } catch (Exception e) {
+            log.warn("Failed to bump board list generation of user {}: {}", userId, e.getMessage());
+        }
+        for (User.Role role : User.Role.values()) {
+            evictKey(cacheKey(userId, role));
+        }
+    }
+
+    // Last resort; counted so the remaining global clears show up in the cache stats
+    public void clearAll() {
+        globalClears.increment();
+        USER_LIST_CACHES.forEach(name -> Objects.requireNonNull(cacheManager.getCache(name)).clear());
+    }
+
+    public CacheInvalidationStatsDto stats() {
+        return new CacheInvalidationStatsDto(targetedEvictions.sum(), globalClears.sum());
+    }
+
+    // Returns false if the audience could not be recorded, in which case the list must not stay cached
+    private boolean record(User user, String cacheKey, Collection<Integer> boardIds) {
+        try {
+            if (user.getRole() == User.Role.ADMIN) {
+                redisTemplate.opsForSet().add(adminAudienceKey, cacheKey);
+                redisTemplate.expire(adminAudienceKey, AUDIENCE_TTL);
+                return true;
+            }
+            byte[] member = cacheKey.getBytes(StandardCharsets.UTF_8);
+            long ttlSeconds = AUDIENCE_TTL.toSeconds();
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Integer boardId : boardIds) {
+                    byte[] key = (audiencePrefix + boardId).getBytes(StandardCharsets.UTF_8);
+                    connection.setCommands().sAdd(key, member);
+                    connection.keyCommands().expire(key, ttlSeconds);
+                }
+                return null;
+            });
+            return true;
+        } catch (Exception e) {
+            log.warn("Failed to record board audience for {}: {}", cacheKey, e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean isCurrent(User user, Load load) {
+        if (!load.recorded || load.generations == null) {
+            return false;
+        }
+        long globalBefore = parseGeneration(load.generations.get(0));
+        List<String> keys = new ArrayList<>();
+        keys.add(generationKey);
+        keys.add(userGenerationPrefix + user.getId());
+        load.boardIds.forEach(boardId -> keys.add(boardGenerationPrefix + boardId));
+        List<String> after = readGenerations(keys);
+        if (after == null || !Objects.equals(load.generations.get(1), after.get(1))) {
+            return false;
+        }
+        if (user.getRole() == User.Role.ADMIN) {
+            // Admins see every board, including ones created during the load
+            return parseGeneration(after.get(0)) == globalBefore;
+        }
+        for (int i = 2; i < after.size(); i++) {
+            if (parseGeneration(after.get(i)) > globalBefore) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Null if Redis could not be read, which counts as a change
+    private List<String> readGenerations(List<String> keys) {
+        try {
+            return redisTemplate.opsForValue().multiGet(keys);
+        } catch (Exception e) {
+            log.warn("Failed to read board list generations: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static long parseGeneration(String value) {
+        return value != null ? Long.parseLong(value) : 0;
+    }
+
+    private void evictKey(String cacheKey) {
+        targetedEvictions.increment();
+        for (String name : USER_LIST_CACHES) {
+            Cache cache = Objects.requireNonNull(cacheManager.getCache(name));
+            cache.evict(cacheKey);
+        }
+    }
+
+    private record Load(List<String> generations, Collection<Integer> boardIds, boolean recorded) {
+    }
+}
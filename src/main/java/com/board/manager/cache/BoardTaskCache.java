@@ -0,0 +1,407 @@
+package com.board.manager.cache;
+
+import com.board.manager.dto.TaskDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Per-board task list cache kept as one Redis hash per board: task id -> Smile-encoded TaskDto.
+ * The hash also holds a "v:" field with the version of each task and a completeness marker. Mutations write
+ * the new TaskDto into the hash after commit instead of dropping the whole list.
+ *
+ * <p>A per-board generation counter is bumped by every write. A reader records the generation before it
+ * queries the database and may only fill the hash if the generation is unchanged, so a slow reader cannot
+ * store a list that is older than a write it raced with.
+ *
+ * <p>Misses are loaded once per key: concurrent readers on a node share one load, and across nodes a short
+ * Redis lease lets one node load while the others wait for its fill. Hot lists are refreshed ahead of their
+ * TTL with probabilistic early expiration (XFetch), weighted by how long the last load took.
+ */
+@Slf4j
+@Component
+public class BoardTaskCache {
+
+    private static final String META_FIELD_PREFIX = "__";
+    private static final String COMPLETE_FIELD = "__complete";
+    private static final String DELTA_FIELD = "__delta";
+    private static final String EXPIRY_FIELD = "__expiry";
+    private static final String VERSION_FIELD_PREFIX = "v:";
+
+    // KEYS: hash, generation. ARGV: expected generation, ttl, replace flag, load time in ms, expiry epoch ms,
+    // then field/value pairs. A refresh replaces an existing hash; a plain fill never does.
+    private static final RedisScript<Long> FILL_SCRIPT = new DefaultRedisScript<>("""
+            local generation = redis.call('GET', KEYS[2]) or '0'
+            if generation ~= ARGV[1] then
+                return 0
+            end
+            if ARGV[3] == '1' then
+                redis.call('DEL', KEYS[1])
+            elseif redis.call('EXISTS', KEYS[1]) == 1 then
+                return 0
+            end
+            for i = 6, #ARGV, 2 do
+                redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+            end
+            redis.call('HSET', KEYS[1], '__complete', '1', '__delta', ARGV[4], '__expiry', ARGV[5])
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    // KEYS: hash, generation. ARGV: ttl, then task id/version/payload triples.
+    // Only a complete hash is updated, and never with an older version than the one it holds.
+    private static final RedisScript<Long> PUT_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('INCR', KEYS[2])
+            redis.call('EXPIRE', KEYS[2], ARGV[1])
+            if redis.call('HEXISTS', KEYS[1], '__complete') == 0 then
+                return 0
+            end
+            local written = 0
+            for i = 2, #ARGV, 3 do
+                local current = redis.call('HGET', KEYS[1], 'v:' .. ARGV[i])
+                if not current or tonumber(current) <= tonumber(ARGV[i + 1]) then
+                    redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 2], 'v:' .. ARGV[i], ARGV[i + 1])
+                    written = written + 1
+                end
+            end
+            return written
+            """, Long.class);
+
+    // KEYS: hash, generation. ARGV: ttl, task id. The version field stays as a tombstone so a late put
+    // for the deleted task cannot bring it back.
+    private static final RedisScript<Long> REMOVE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('INCR', KEYS[2])
+            redis.call('EXPIRE', KEYS[2], ARGV[1])
+            if redis.call('HEXISTS', KEYS[1], '__complete') == 0 then
+                return 0
+            end
+            redis.call('HDEL', KEYS[1], ARGV[2])
+            redis.call('HSET', KEYS[1], 'v:' .. ARGV[2], '1e308')
+            return 1
+            """, Long.class);
+
+    // KEYS: hash, generation. ARGV: ttl
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('INCR', KEYS[2])
+            redis.call('EXPIRE', KEYS[2], ARGV[1])
+            return redis.call('DEL', KEYS[1])
+            """, Long.class);
+
+    // KEYS: lease. ARGV: token
+    private static final RedisScript<Long> RELEASE_LEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private static final int LEASE_WAIT_ATTEMPTS = 10;
+
+    private static final RedisSerializer<Long> RESULT_SERIALIZER = new GenericToStringSerializer<>(Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final SmileRedisSerializer<TaskDto> serializer;
+    private final String hashPrefix;
+    private final String generationPrefix;
+    private final String leasePrefix;
+    private final long ttlSeconds;
+    private final Duration leaseDuration;
+    private final double earlyRefreshBeta;
+    private final Map<Integer, CompletableFuture<List<TaskDto>>> inFlightLoads = new ConcurrentHashMap<>();
+
+    private record CachedTasks(List<TaskDto> tasks, long deltaMs, long expiresAt) {
+    }
+
+    public BoardTaskCache(StringRedisTemplate redisTemplate,
+                          @Value("${app.cache.board-tasks.ttl-seconds:600}") long ttlSeconds,
+                          @Value("${app.cache.board-tasks.lease-ms:3000}") long leaseMs,
+                          @Value("${app.cache.board-tasks.early-refresh-beta:1.0}") double earlyRefreshBeta,
+                          @Value("${app.cache.compression-threshold-bytes:2048}") int compressionThreshold,
+                          @Value("${app.cache.key-version:1}") String keyVersion) {
+        this.redisTemplate = redisTemplate;
+        // Same versioned namespace as the Spring caches in RedisConfig
+        this.hashPrefix = "v" + keyVersion + "::taskidx::board:";
+        this.generationPrefix = "v" + keyVersion + "::taskidx::gen:";
+        this.leasePrefix = "v" + keyVersion + "::taskidx::lease:";
+        this.ttlSeconds = ttlSeconds;
+        this.leaseDuration = Duration.ofMillis(leaseMs);
+        this.earlyRefreshBeta = earlyRefreshBeta;
+        ObjectMapper smileMapper = SmileRedisSerializer.createObjectMapper();
+        this.serializer = new SmileRedisSerializer<>(smileMapper, smileMapper.constructType(TaskDto.class), compressionThreshold);
+    }
+
+    /**
+     * Returns the board's task list from the cache, or runs the loader at most once per node and stores
+     * its result. The loader is also run early, for one caller, when XFetch decides the entry is due.
+     */
+    public List<TaskDto> getOrLoad(Integer boardId, Supplier<List<TaskDto>> loader) {
+        CachedTasks cached = read(boardId);
+        if (cached != null && !shouldRefreshEarly(cached)) {
+            return cached.tasks();
+        }
+
+        CompletableFuture<List<TaskDto>> load = new CompletableFuture<>();
+        CompletableFuture<List<TaskDto>> inFlight = inFlightLoads.putIfAbsent(boardId, load);
+        if (inFlight != null) {
+            // Someone on this node is already loading; a stale-but-valid list is fine to serve meanwhile
+            return cached != null ? cached.tasks() : await(inFlight);
+        }
+        try {
+            List<TaskDto> tasks = loadThroughLease(boardId, loader, cached);
+            load.complete(tasks);
+            return tasks;
+        } catch (RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightLoads.remove(boardId, load);
+        }
+    }
+
+    private List<TaskDto> loadThroughLease(Integer boardId, Supplier<List<TaskDto>> loader, CachedTasks cached) {
+        String leaseKey = leasePrefix + boardId;
+        String leaseToken = UUID.randomUUID().toString();
+        Boolean leaseResult = acquireLease(leaseKey, leaseToken);
+        boolean leased = Boolean.TRUE.equals(leaseResult);
+        if (Boolean.FALSE.equals(leaseResult)) {
+            if (cached != null) {
+                // Another node is refreshing this list
+                return cached.tasks();
+            }
+            // Another node is loading; give it a moment to fill before loading here as well
+            for (int attempt = 0; attempt < LEASE_WAIT_ATTEMPTS; attempt++) {
+                if (!sleep(leaseDuration.toMillis() / LEASE_WAIT_ATTEMPTS / 2)) {
+                    break;
+                }
+                CachedTasks filled = read(boardId);
+                if (filled != null) {
+                    return filled.tasks();
+                }
+            }
+        }
+        try {
+            // Read the generation first so a write that lands during the query stops the fill
+            String generation = generation(boardId);
+            long start = System.nanoTime();
+            List<TaskDto> tasks = loader.get();
+            long deltaMs = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+            fill(boardId, generation, tasks, deltaMs, cached != null);
+            return tasks;
+        } finally {
+            if (leased) {
+                releaseLease(leaseKey, leaseToken);
+            }
+        }
+    }
+
+    // XFetch: refresh when delta * beta * -ln(rand) reaches past the expiry, which gets likelier as it nears
+    private boolean shouldRefreshEarly(CachedTasks cached) {
+        if (cached.deltaMs() <= 0 || cached.expiresAt() <= 0 || earlyRefreshBeta <= 0) {
+            return false;
+        }
+        double gap = -cached.deltaMs() * earlyRefreshBeta * Math.log(ThreadLocalRandom.current().nextDouble());
+        return System.currentTimeMillis() + gap >= cached.expiresAt();
+    }
+
+    private CachedTasks read(Integer boardId) {
+        try {
+            byte[] hashKey = bytes(hashPrefix + boardId);
+            Map<byte[], byte[]> entries = redisTemplate.execute((RedisCallback<Map<byte[], byte[]>>) connection ->
+                    connection.hashCommands().hGetAll(hashKey));
+            if (entries == null || entries.isEmpty()) {
+                return null;
+            }
+            List<TaskDto> tasks = new ArrayList<>(entries.size() / 2);
+            boolean complete = false;
+            long deltaMs = 0;
+            long expiresAt = 0;
+            for (Map.Entry<byte[], byte[]> entry : entries.entrySet()) {
+                String field = new String(entry.getKey(), StandardCharsets.UTF_8);
+                if (field.startsWith(META_FIELD_PREFIX)) {
+                    String value = new String(entry.getValue(), StandardCharsets.UTF_8);
+                    switch (field) {
+                        case COMPLETE_FIELD -> complete = true;
+                        case DELTA_FIELD -> deltaMs = Long.parseLong(value);
+                        case EXPIRY_FIELD -> expiresAt = Long.parseLong(value);
+                        default -> {
+                        }
+                    }
+                } else if (!field.startsWith(VERSION_FIELD_PREFIX)) {
+                    TaskDto task = serializer.deserialize(entry.getValue());
+                    if (task == null) {
+                        // Written in a format this node cannot read; treat the whole list as a miss
+                        return null;
+                    }
+                    tasks.add(task);
+                }
+            }
+            return complete ? new CachedTasks(tasks, deltaMs, expiresAt) : null;
+        } catch (Exception e) {
+            log.warn("Failed to read cached tasks for board {}: {}", boardId, e.getMessage());
+            return null;
+        }
+    }
+
+    private String generation(Integer boardId) {
+        try {
+            String generation = redisTemplate.opsForValue().get(generationPrefix + boardId);
+            return generation != null ? generation : "0";
+        } catch (Exception e) {
+            log.warn("Failed to read task cache generation for board {}: {}", boardId, e.getMessage());
+            return null;
+        }
+    }
+
+    private void fill(Integer boardId, String generation, List<TaskDto> tasks, long deltaMs, boolean replace) {
+        if (generation == null) {
+            return;
+        }
+        List<Object> args = new ArrayList<>(tasks.size() * 4 + 5);
+        args.add(bytes(generation));
+        args.add(bytes(String.valueOf(ttlSeconds)));
+        args.add(bytes(replace ? "1" : "0"));
+        args.add(bytes(String.valueOf(deltaMs)));
+        args.add(bytes(String.valueOf(System.currentTimeMillis() + ttlSeconds * 1000)));
+        for (TaskDto task : tasks) {
+            String taskId = task.getId().toString();
+            args.add(bytes(taskId));
+            args.add(serializer.serialize(task));
+            args.add(bytes(VERSION_FIELD_PREFIX + taskId));
+            args.add(bytes(String.valueOf(versionOf(task))));
+        }
+        Long filled = execute(FILL_SCRIPT, boardId, args);
+        log.debug("{} task cache for board {} with {} tasks loaded in {} ms: {}",
+                replace ? "Refreshed" : "Filled", boardId, tasks.size(), deltaMs, filled != null && filled == 1);
+    }
+
+    // Null when Redis is unavailable, in which case there is nothing to coordinate with and the caller loads locally
+    private Boolean acquireLease(String leaseKey, String leaseToken) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(leaseKey, leaseToken, leaseDuration));
+        } catch (Exception e) {
+            log.warn("Failed to acquire task cache lease {}: {}", leaseKey, e.getMessage());
+            return null;
+        }
+    }
+
+    private void releaseLease(String leaseKey, String leaseToken) {
+        try {
+            redisTemplate.execute(RELEASE_LEASE_SCRIPT, List.of(leaseKey), leaseToken);
+        } catch (Exception e) {
+            log.debug("Failed to release task cache lease {}: {}", leaseKey, e.getMessage());
+        }
+    }
+
+    private static List<TaskDto> await(CompletableFuture<List<TaskDto>> load) {
+        try {
+            return load.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(Math.max(1, millis));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public void put(Integer boardId, TaskDto task) {
+        putAll(boardId, List.of(task));
+    }
+
+    public void putAll(Integer boardId, List<TaskDto> tasks) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        List<Object> args = new ArrayList<>(tasks.size() * 3 + 1);
+        args.add(bytes(String.valueOf(ttlSeconds)));
+        for (TaskDto task : tasks) {
+            args.add(bytes(task.getId().toString()));
+            args.add(bytes(String.valueOf(versionOf(task))));
+            args.add(serializer.serialize(task));
+        }
+        afterCommit(() -> execute(PUT_SCRIPT, boardId, args));
+    }
+
+    public void remove(Integer boardId, UUID taskId) {
+        List<Object> args = List.of(bytes(String.valueOf(ttlSeconds)), bytes(taskId.toString()));
+        afterCommit(() -> execute(REMOVE_SCRIPT, boardId, args));
+    }
+
+    public void evict(Integer boardId) {
+        afterCommit(() -> execute(EVICT_SCRIPT, boardId, List.of(bytes(String.valueOf(ttlSeconds)))));
+    }
+
+    public void evictAll() {
+        List<Integer> boardIds = new ArrayList<>();
+        try (Cursor<String> keys = redisTemplate.scan(ScanOptions.scanOptions().match(hashPrefix + "*").count(500).build())) {
+            keys.forEachRemaining(key -> boardIds.add(Integer.valueOf(key.substring(hashPrefix.length()))));
+        } catch (Exception e) {
+            log.warn("Failed to scan task caches: {}", e.getMessage());
+        }
+        boardIds.forEach(this::evict);
+    }
+
+    private Long execute(RedisScript<Long> script, Integer boardId, List<Object> args) {
+        try {
+            return redisTemplate.execute(script, RedisSerializer.byteArray(), RESULT_SERIALIZER,
+                    List.of(hashPrefix + boardId, generationPrefix + boardId), args.toArray());
+        } catch (Exception e) {
+            // The generation bump may not have happened either; the hash TTL bounds how stale it can get
+            log.warn("Task cache update for board {} failed: {}", boardId, e.getMessage());
+            return null;
+        }
+    }
+
+    private static long versionOf(TaskDto task) {
+        return task.getVersion() != null ? task.getVersion() : 0L;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
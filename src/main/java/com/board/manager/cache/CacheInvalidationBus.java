@@ -0,0 +1,90 @@
+package com.board.manager.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Fans local-cache invalidations out to every node over Redis pub/sub.
+ * Each message names a region (usually a cache name) and either a key or "clear everything".
+ * Messages a node published itself are ignored, since it has already invalidated locally.
+ */
+@Slf4j
+@Component
+public class CacheInvalidationBus implements MessageListener {
+
+    private static final String EVICT = "E";
+    private static final String CLEAR = "C";
+
+    @FunctionalInterface
+    public interface InvalidationListener {
+        // key is null when the whole region was cleared
+        void invalidate(String key);
+    }
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final StringRedisTemplate redisTemplate;
+    private final String channel;
+    private final Map<String, List<InvalidationListener>> listeners = new ConcurrentHashMap<>();
+
+    public CacheInvalidationBus(StringRedisTemplate redisTemplate,
+                                RedisMessageListenerContainer listenerContainer,
+                                @Value("${app.cache.invalidation-channel:cache:invalidation}") String channel) {
+        this.redisTemplate = redisTemplate;
+        this.channel = channel;
+        listenerContainer.addMessageListener(this, new ChannelTopic(channel));
+    }
+
+    public void subscribe(String region, InvalidationListener listener) {
+        listeners.computeIfAbsent(region, r -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    public void publishEvict(String region, String key) {
+        publish(region, EVICT, key);
+    }
+
+    public void publishClear(String region) {
+        publish(region, CLEAR, "");
+    }
+
+    private void publish(String region, String op, String key) {
+        try {
+            redisTemplate.convertAndSend(channel, nodeId + '\n' + region + '\n' + op + '\n' + key);
+        } catch (Exception e) {
+            // Other nodes fall back to their local TTL; the write itself must not fail because of this
+            log.warn("Failed to publish {} invalidation for region {}: {}", op, region, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\n", 4);
+        if (parts.length != 4 || nodeId.equals(parts[0])) {
+            return;
+        }
+        List<InvalidationListener> regionListeners = listeners.get(parts[1]);
+        if (regionListeners == null) {
+            return;
+        }
+        String key = CLEAR.equals(parts[2]) ? null : parts[3];
+        for (InvalidationListener listener : regionListeners) {
+            try {
+                listener.invalidate(key);
+            } catch (Exception e) {
+                log.warn("Invalidation listener for region {} failed: {}", parts[1], e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.board.manager.cache;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Binary Smile serializer for a single known value type, so no class names are written into the payload.
+ * Each value starts with a format byte. Payloads at or above the compression threshold are deflated if that
+ * makes them smaller. Values with an unknown format byte, such as entries written by the old JSON serializer,
+ * are read as cache misses.
+ */
+public class SmileRedisSerializer<T> implements RedisSerializer<T> {
+
+    private static final byte PLAIN = 1;
+    private static final byte DEFLATED = 2;
+
+    private final ObjectMapper smileMapper;
+    private final JavaType type;
+    private final int compressionThreshold;
+
+    public SmileRedisSerializer(ObjectMapper smileMapper, JavaType type, int compressionThreshold) {
+        this.smileMapper = smileMapper;
+        this.type = type;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    public static ObjectMapper createObjectMapper() {
+        ObjectMapper smileMapper = new ObjectMapper(new SmileFactory());
+        smileMapper.registerModule(new JavaTimeModule());
+        // Tolerate entries written by an older DTO shape until they expire
+        smileMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        return smileMapper;
+    }
+
+    @Override
+    public byte[] serialize(T value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+        try {
+            byte[] payload = smileMapper.writerFor(type).writeValueAsBytes(value);
+            if (payload.length >= compressionThreshold) {
+                byte[] deflated = deflate(payload);
+                if (deflated.length < payload.length) {
+                    return withHeader(DEFLATED, deflated);
+                }
+            }
+            return withHeader(PLAIN, payload);
+        } catch (IOException e) {
+            throw new SerializationException("Could not write Smile value of type " + type, e);
+        }
+    }
+
+    @Override
+    public T deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        try {
+            return switch (bytes[0]) {
+                case PLAIN -> smileMapper.readValue(bytes, 1, bytes.length - 1, type);
+                case DEFLATED -> smileMapper.readValue(inflate(bytes), type);
+                default -> null;
+            };
+        } catch (IOException e) {
+            throw new SerializationException("Could not read Smile value of type " + type, e);
+        }
+    }
+
+    @Override
+    public Class<?> getTargetType() {
+        return type.getRawClass();
+    }
+
+    private static byte[] withHeader(byte format, byte[] payload) {
+        byte[] result = new byte[payload.length + 1];
+        result[0] = format;
+        System.arraycopy(payload, 0, result, 1, payload.length);
+        return result;
+    }
+
+    private static byte[] deflate(byte[] payload) throws IOException {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        ByteArrayOutputStream out = new ByteArrayOutputStream(payload.length / 2);
+        try (DeflaterOutputStream deflaterOut = new DeflaterOutputStream(out, deflater)) {
+            deflaterOut.write(payload);
+        } finally {
+            deflater.end();
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] inflate(byte[] bytes) throws IOException {
+        try (InflaterInputStream in = new InflaterInputStream(new ByteArrayInputStream(bytes, 1, bytes.length - 1))) {
+            return in.readAllBytes();
+        }
+    }
+}
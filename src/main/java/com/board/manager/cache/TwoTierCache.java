@@ -0,0 +1,218 @@
+package com.board.manager.cache;
+
+import com.board.manager.dto.CacheStatsDto;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A bounded in-process Caffeine tier in front of a Redis cache.
+ * Reads try the local tier first. Writes and evictions go to Redis and are then broadcast, so other nodes drop
+ * their local copies. Local keys are the string form of the cache key, which is also what travels on the bus.
+ * The local tier holds values in their Redis-serialized form and every read deserializes a fresh copy, so callers
+ * can never see or corrupt each other's instances.
+ */
+public class TwoTierCache implements Cache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, byte[]> local;
+    private final Cache remote;
+    private final RedisSerializationContext.SerializationPair<Object> values;
+    private final CacheInvalidationBus invalidationBus;
+
+    private final LongAdder remoteHits = new LongAdder();
+    private final LongAdder remoteMisses = new LongAdder();
+    private final LongAdder remoteInvalidations = new LongAdder();
+
+    public TwoTierCache(String name, com.github.benmanes.caffeine.cache.Cache<String, byte[]> local,
+                        Cache remote, RedisSerializationContext.SerializationPair<Object> values,
+                        CacheInvalidationBus invalidationBus) {
+        this.name = name;
+        this.local = local;
+        this.remote = remote;
+        this.values = values;
+        this.invalidationBus = invalidationBus;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    // Loads through the local tier's mapping function like get(key, valueLoader): an invalidation arriving while
+    // Redis is read waits for the load and then removes it, instead of being overwritten by the stale value
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper[] remoteValue = new ValueWrapper[1];
+        byte[] bytes = local.get(localKey(key), k -> {
+            ValueWrapper wrapper = remote.get(key);
+            if (wrapper == null) {
+                remoteMisses.increment();
+                return null;
+            }
+            remoteHits.increment();
+            // The remote value was just deserialized for this caller, so it is not shared
+            remoteValue[0] = wrapper;
+            return write(wrapper.get());
+        });
+        if (remoteValue[0] != null) {
+            return remoteValue[0];
+        }
+        return bytes != null ? new SimpleValueWrapper(read(bytes)) : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    // Caffeine runs the mapping function once per key, so concurrent misses on this node share one load
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        byte[] bytes = local.get(localKey(key), k -> write(loadThrough(key, valueLoader)));
+        return bytes != null ? (T) read(bytes) : null;
+    }
+
+    private <T> Object loadThrough(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = remote.get(key);
+        if (wrapper != null) {
+            remoteHits.increment();
+            return wrapper.get();
+        }
+        remoteMisses.increment();
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        if (value != null) {
+            remote.put(key, value);
+        }
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        String localKey = localKey(key);
+        if (value != null) {
+            local.put(localKey, write(value));
+        } else {
+            local.invalidate(localKey);
+        }
+        invalidationBus.publishEvict(name, localKey);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = remote.putIfAbsent(key, value);
+        Object current = existing != null ? existing.get() : value;
+        String localKey = localKey(key);
+        if (current != null) {
+            local.put(localKey, write(current));
+        }
+        if (existing == null) {
+            invalidationBus.publishEvict(name, localKey);
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        String localKey = localKey(key);
+        local.invalidate(localKey);
+        invalidationBus.publishEvict(name, localKey);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = remote.evictIfPresent(key);
+        String localKey = localKey(key);
+        local.invalidate(localKey);
+        invalidationBus.publishEvict(name, localKey);
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.invalidateAll();
+        invalidationBus.publishClear(name);
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = remote.invalidate();
+        local.invalidateAll();
+        invalidationBus.publishClear(name);
+        return invalidated;
+    }
+
+    /**
+     * Applies an invalidation received from another node. Only the local tier is touched, because that node
+     * has already updated Redis.
+     */
+    void invalidateLocal(String key) {
+        remoteInvalidations.increment();
+        if (key == null) {
+            local.invalidateAll();
+        } else {
+            local.invalidate(key);
+        }
+    }
+
+    CacheStatsDto stats() {
+        CacheStats localStats = local.stats();
+        long hits = remoteHits.sum();
+        long misses = remoteMisses.sum();
+        return new CacheStatsDto(
+                name,
+                local.estimatedSize(),
+                localStats.hitCount(),
+                localStats.missCount(),
+                // Caffeine reports 1.0 before the first request; no traffic is not a perfect hit rate
+                localStats.requestCount() == 0 ? 0.0 : localStats.hitRate(),
+                hits,
+                misses,
+                hits + misses == 0 ? 0.0 : (double) hits / (hits + misses),
+                remoteInvalidations.sum()
+        );
+    }
+
+    private byte[] write(Object value) {
+        if (value == null) {
+            return null;
+        }
+        ByteBuffer buffer = values.write(value);
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    private Object read(byte[] bytes) {
+        return values.read(ByteBuffer.wrap(bytes));
+    }
+
+    private static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,70 @@
+package com.board.manager.cache;
+
+import com.board.manager.dto.CacheStatsDto;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Wraps every cache of the Redis cache manager in a {@link TwoTierCache}.
+ * The local TTL only bounds how stale a node can be if it misses an invalidation message. The local tier reuses each
+ * Redis cache's value serializer to store its copies.
+ */
+public class TwoTierCacheManager implements CacheManager {
+
+    private final RedisCacheManager remoteCacheManager;
+    private final CacheInvalidationBus invalidationBus;
+    private final long localMaximumSize;
+    private final Duration localTtl;
+    private final ConcurrentMap<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(RedisCacheManager remoteCacheManager, CacheInvalidationBus invalidationBus,
+                               long localMaximumSize, Duration localTtl) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.invalidationBus = invalidationBus;
+        this.localMaximumSize = localMaximumSize;
+        this.localTtl = localTtl;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+
+    public List<CacheStatsDto> getStats() {
+        return caches.values().stream()
+                .map(TwoTierCache::stats)
+                .sorted(Comparator.comparing(CacheStatsDto::getCacheName))
+                .toList();
+    }
+
+    private TwoTierCache createCache(String name) {
+        RedisCache remote = (RedisCache) remoteCacheManager.getCache(name);
+        if (remote == null) {
+            return null;
+        }
+        TwoTierCache cache = new TwoTierCache(name,
+                Caffeine.newBuilder()
+                        .maximumSize(localMaximumSize)
+                        .expireAfterWrite(localTtl)
+                        .recordStats()
+                        .build(),
+                remote, remote.getCacheConfiguration().getValueSerializationPair(), invalidationBus);
+        invalidationBus.subscribe(name, cache::invalidateLocal);
+        return cache;
+    }
+}
@@ -0,0 +1,90 @@
+package com.board.manager.config;
+
+import com.board.manager.model.User;
+import com.board.manager.service.JwtService;
+import com.board.manager.service.JwtServiceImpl;
+import com.board.manager.service.TokenVersionService;
+import io.jsonwebtoken.Claims;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Function;
+
+/**
+ * Turns a bearer token into an authentication; shared by the HTTP filter and the STOMP CONNECT interceptor.
+ * In stateless mode the principal is built from the verified claims and checked against the user's token
+ * version, so no database lookup is made. Tokens without the identity claims (issued before the mode was
+ * enabled) fall back to loading the user.
+ */
+@Slf4j
+@Component
+public class JwtAuthenticator {
+
+    private final JwtService jwtService;
+    private final UserDetailsService userDetailsService;
+    private final TokenVersionService tokenVersionService;
+    private final boolean stateless;
+
+    public JwtAuthenticator(JwtService jwtService,
+                            UserDetailsService userDetailsService,
+                            TokenVersionService tokenVersionService,
+                            @Value("${app.security.stateless.enabled:false}") boolean stateless) {
+        this.jwtService = jwtService;
+        this.userDetailsService = userDetailsService;
+        this.tokenVersionService = tokenVersionService;
+        this.stateless = stateless;
+    }
+
+    /**
+     * Returns null when the token is valid but no longer accepted (revoked, or its user no longer matches).
+     * Signature and expiry failures are thrown by the JWT parser.
+     */
+    public UsernamePasswordAuthenticationToken authenticate(String jwt) {
+        Claims claims = jwtService.extractClaim(jwt, Function.identity());
+        if (claims.getSubject() == null) {
+            return null;
+        }
+
+        UserDetails principal;
+        Integer userId = claims.get(JwtServiceImpl.USER_ID_CLAIM, Integer.class);
+        if (stateless && userId != null) {
+            principal = principalFromClaims(userId, claims);
+        } else {
+            UserDetails userDetails = userDetailsService.loadUserByUsername(claims.getSubject());
+            principal = jwtService.isTokenValid(jwt, userDetails) ? userDetails : null;
+        }
+
+        if (principal == null) {
+            return null;
+        }
+        return new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+    }
+
+    private User principalFromClaims(Integer userId, Claims claims) {
+        Long tokenVersion = claims.get(JwtServiceImpl.TOKEN_VERSION_CLAIM, Long.class);
+        String role = claims.get(JwtServiceImpl.ROLE_CLAIM, String.class);
+        if (tokenVersion == null || role == null) {
+            return null;
+        }
+        if (tokenVersion != tokenVersionService.currentVersion(userId)) {
+            log.debug("Rejected revoked token for user {}", claims.getSubject());
+            return null;
+        }
+
+        // Transient principal: only id, username and role are known, which is all the services read from it
+        User user = new User();
+        user.setId(userId);
+        user.setUsername(claims.getSubject());
+        try {
+            user.setRole(User.Role.valueOf(role));
+        } catch (IllegalArgumentException e) {
+            log.warn("Token for user {} carries unknown role {}", claims.getSubject(), role);
+            return null;
+        }
+        return user;
+    }
+}
@@ -1,28 +1,36 @@
 package com.board.manager.config;
 
+import com.board.manager.cache.CacheInvalidationBus;
+import com.board.manager.cache.SmileRedisSerializer;
+import com.board.manager.cache.TwoTierCacheManager;
+import com.board.manager.dto.BoardDto;
+import com.board.manager.dto.BoardSummaryDto;
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
+import com.fasterxml.jackson.databind.type.TypeFactory;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import org.springframework.boot.CommandLineRunner;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.cache.RedisCacheManagerBuilderCustomizer;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.CacheKeyPrefix;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
-import java.util.Objects;
+import java.util.List;
 
 @Configuration
 @EnableCaching
@@ -46,16 +54,25 @@ public class RedisConfig {
     }
 
     @Bean
-    public RedisCacheConfiguration cacheConfiguration() {
+    public RedisCacheConfiguration cacheConfiguration(@Value("${app.cache.key-version:1}") String keyVersion) {
         ObjectMapper objectMapper = createCleanObjectMapper();
 
         return RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(Duration.ofMinutes(30))
+                .computePrefixWith(versionedPrefix(keyVersion))
                 .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
                 .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer(objectMapper)))
                 .disableCachingNullValues();
     }
 
+    /**
+     * Prefixes cache keys with app.cache.key-version. Bump it whenever a cached DTO changes incompatibly:
+     * nodes on the new version ignore the old entries, which expire on their own, instead of clearing Redis.
+     */
+    private static CacheKeyPrefix versionedPrefix(String keyVersion) {
+        return cacheName -> "v" + keyVersion + "::" + cacheName + "::";
+    }
+
     private ObjectMapper createCleanObjectMapper() {
         ObjectMapper objectMapper = new ObjectMapper();
         objectMapper.setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.ANY);
@@ -65,45 +82,52 @@ public class RedisConfig {
         return objectMapper;
     }
 
+    // The hot caches hold known DTO types, so they use typed Smile instead of default-typed JSON
     @Bean
-    public RedisCacheManagerBuilderCustomizer redisCacheManagerBuilderCustomizer() {
-        ObjectMapper cleanObjectMapper = createCleanObjectMapper();
-        GenericJackson2JsonRedisSerializer cleanSerializer = new GenericJackson2JsonRedisSerializer(cleanObjectMapper);
+    public RedisCacheManagerBuilderCustomizer redisCacheManagerBuilderCustomizer(
+            @Value("${app.cache.compression-threshold-bytes:2048}") int compressionThreshold,
+            @Value("${app.cache.key-version:1}") String keyVersion) {
+        ObjectMapper smileMapper = SmileRedisSerializer.createObjectMapper();
+        TypeFactory types = smileMapper.getTypeFactory();
 
         return (builder) -> builder
-                .withCacheConfiguration("boards",
-                        RedisCacheConfiguration.defaultCacheConfig()
-                                .entryTtl(Duration.ofMinutes(15))
-                                .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
-                                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(cleanSerializer)))
-                .withCacheConfiguration("board",
-                        RedisCacheConfiguration.defaultCacheConfig()
-                                .entryTtl(Duration.ofMinutes(10))
-                                .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
-                                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(cleanSerializer)))
-                .withCacheConfiguration("tasks",
-                        RedisCacheConfiguration.defaultCacheConfig()
-                                .entryTtl(Duration.ofMinutes(10))
-                                .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
-                                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(cleanSerializer)));
+                .withCacheConfiguration("boards", smileCacheConfiguration(Duration.ofMinutes(15), keyVersion,
+                        new SmileRedisSerializer<>(smileMapper, types.constructCollectionType(List.class, BoardDto.class), compressionThreshold)))
+                .withCacheConfiguration("boardSummaries", smileCacheConfiguration(Duration.ofMinutes(5), keyVersion,
+                        new SmileRedisSerializer<>(smileMapper, types.constructCollectionType(List.class, BoardSummaryDto.class), compressionThreshold)))
+                .withCacheConfiguration("board", smileCacheConfiguration(Duration.ofMinutes(10), keyVersion,
+                        new SmileRedisSerializer<>(smileMapper, types.constructType(BoardDto.class), compressionThreshold)));
+    }
+
+    private RedisCacheConfiguration smileCacheConfiguration(Duration ttl, String keyVersion, SmileRedisSerializer<?> serializer) {
+        return RedisCacheConfiguration.defaultCacheConfig()
+                .entryTtl(ttl)
+                .computePrefixWith(versionedPrefix(keyVersion))
+                .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(serializer));
     }
 
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
+
+    // Caffeine in front of Redis; evictions reach the other nodes through the invalidation bus
     @Bean
     public CacheManager cacheManager(RedisConnectionFactory redisConnectionFactory,
                                      RedisCacheConfiguration cacheConfiguration,
-                                     RedisCacheManagerBuilderCustomizer customizer) {
+                                     RedisCacheManagerBuilderCustomizer customizer,
+                                     CacheInvalidationBus invalidationBus,
+                                     @Value("${app.cache.l1.maximum-size:10000}") long localMaximumSize,
+                                     @Value("${app.cache.l1.ttl-seconds:60}") long localTtlSeconds) {
         RedisCacheManager.RedisCacheManagerBuilder builder = RedisCacheManager.builder(RedisCacheWriter.nonLockingRedisCacheWriter(redisConnectionFactory))
                 .cacheDefaults(cacheConfiguration);
         customizer.customize(builder);
-        return builder.build();
+        RedisCacheManager redisCacheManager = builder.build();
+        redisCacheManager.initializeCaches();
+        return new TwoTierCacheManager(redisCacheManager, invalidationBus, localMaximumSize, Duration.ofSeconds(localTtlSeconds));
     }
 
-    @Bean
-    public CommandLineRunner clearCacheOnStartup(CacheManager cacheManager) {
-        return args -> {
-            cacheManager.getCacheNames().forEach(cacheName ->
-                    Objects.requireNonNull(cacheManager.getCache(cacheName)).clear()
-            );
-        };
-    }
 }
\ No newline at end of file
@@ -2,23 +2,21 @@ package com.board.manager.config;
 
 import com.board.manager.model.User;
 import com.board.manager.service.BoardService;
-import com.board.manager.service.JwtService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageChannel;
 import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.config.StompBrokerRelayRegistration;
 import org.springframework.messaging.simp.stomp.StompCommand;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.messaging.support.ChannelInterceptor;
 import org.springframework.messaging.support.MessageHeaderAccessor;
 import org.springframework.security.access.AccessDeniedException;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
@@ -34,14 +32,51 @@ import java.util.regex.Pattern;
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private final BoardService boardService;
-    private final JwtService jwtService;
-    private final UserDetailsService userDetailsService;
-    private static final Pattern BOARD_TOPIC_PATTERN = Pattern.compile("/topic/board/(\\d+)");
+    private final JwtAuthenticator jwtAuthenticator;
+    private static final Pattern BOARD_TOPIC_PATTERN = Pattern.compile("/topic/board/(\\d+)(/delta)?");
+    // Relay-internal topics between nodes; under /topic so the broker carries them, never for clients
+    static final String USER_REGISTRY_BROADCAST = "/topic/simp-user-registry";
+    static final String USER_DESTINATION_BROADCAST = "/topic/unresolved-user-destination";
+
+    // Relay mode hands /topic and /queue to an external STOMP broker so broadcasts reach every node's subscribers
+    @Value("${websocket.broker.relay.enabled:false}")
+    private boolean relayEnabled;
+    @Value("${websocket.broker.relay.host:localhost}")
+    private String relayHost;
+    @Value("${websocket.broker.relay.port:61613}")
+    private int relayPort;
+    @Value("${websocket.broker.relay.virtual-host:}")
+    private String relayVirtualHost;
+    @Value("${websocket.broker.relay.client-login:guest}")
+    private String relayClientLogin;
+    @Value("${websocket.broker.relay.client-passcode:guest}")
+    private String relayClientPasscode;
+    @Value("${websocket.broker.relay.system-login:guest}")
+    private String relaySystemLogin;
+    @Value("${websocket.broker.relay.system-passcode:guest}")
+    private String relaySystemPasscode;
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        // Enable a simple memory-based message broker to carry the greeting messages back to the client
-        config.enableSimpleBroker("/topic", "/queue");
+        if (relayEnabled) {
+            StompBrokerRelayRegistration relay = config.enableStompBrokerRelay("/topic", "/queue")
+                    .setRelayHost(relayHost)
+                    .setRelayPort(relayPort)
+                    .setClientLogin(relayClientLogin)
+                    .setClientPasscode(relayClientPasscode)
+                    .setSystemLogin(relaySystemLogin)
+                    .setSystemPasscode(relaySystemPasscode)
+                    // Share connected users between nodes and forward /user messages the local node cannot resolve
+                    .setUserRegistryBroadcast(USER_REGISTRY_BROADCAST)
+                    .setUserDestinationBroadcast(USER_DESTINATION_BROADCAST);
+            if (!relayVirtualHost.isEmpty()) {
+                relay.setVirtualHost(relayVirtualHost);
+            }
+            log.info("Using STOMP broker relay at {}:{}", relayHost, relayPort);
+        } else {
+            // Enable a simple memory-based message broker to carry the greeting messages back to the client
+            config.enableSimpleBroker("/topic", "/queue");
+        }
         // Designates the "/app" prefix for messages that are bound for @MessageMapping-annotated methods
         config.setApplicationDestinationPrefixes("/app");
         // Set user destination prefix for private messages
@@ -58,7 +93,43 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     @Override
     public void configureClientInboundChannel(ChannelRegistration registration) {
-        registration.interceptors(new JwtAuthenticationInterceptor(), new BoardAccessChannelInterceptor());
+        registration.interceptors(new JwtAuthenticationInterceptor(), new BrokerDestinationInterceptor(),
+                new BoardAccessChannelInterceptor());
+    }
+
+    /**
+     * Keeps clients off the broker's own destinations: they may only send to /app, and only authenticated
+     * sessions may subscribe, never to the relay's internal broadcast topics.
+     */
+    private static class BrokerDestinationInterceptor implements ChannelInterceptor {
+
+        @Override
+        public Message<?> preSend(Message<?> message, MessageChannel channel) {
+            StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+            if (accessor == null) {
+                return message;
+            }
+            String destination = accessor.getDestination();
+
+            if (StompCommand.SEND.equals(accessor.getCommand()) && destination != null
+                    && (destination.startsWith("/topic") || destination.startsWith("/queue")
+                    || destination.startsWith("/user"))) {
+                log.warn("Rejected client SEND to broker destination {} (session: {})", destination, accessor.getSessionId());
+                throw new AccessDeniedException("Clients may only send to /app destinations");
+            }
+
+            if (StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
+                if (accessor.getUser() == null) {
+                    log.warn("Rejected unauthenticated subscription to {} (session: {})", destination, accessor.getSessionId());
+                    throw new AccessDeniedException("Authentication required to subscribe");
+                }
+                if (USER_REGISTRY_BROADCAST.equals(destination) || USER_DESTINATION_BROADCAST.equals(destination)) {
+                    log.warn("User {} attempted to subscribe to internal topic {}", accessor.getUser().getName(), destination);
+                    throw new AccessDeniedException("Destination is not available to clients");
+                }
+            }
+            return message;
+        }
     }
 
     /**
@@ -151,18 +222,13 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 if (authToken != null && authToken.startsWith("Bearer ")) {
                     try {
                         String jwt = authToken.substring(7);
-                        String username = jwtService.extractUsername(jwt);
-
-                        if (username != null) {
-                            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-                            if (jwtService.isTokenValid(jwt, userDetails)) {
-                                Authentication authentication = new UsernamePasswordAuthenticationToken(
-                                        userDetails, null, userDetails.getAuthorities());
-                                accessor.setUser(authentication);
-                                log.debug("WebSocket authenticated user: {}", username);
-                            } else {
-                                log.warn("Invalid JWT token for user: {}", username);
-                            }
+                        Authentication authentication = jwtAuthenticator.authenticate(jwt);
+
+                        if (authentication != null) {
+                            accessor.setUser(authentication);
+                            log.debug("WebSocket authenticated user: {}", authentication.getName());
+                        } else {
+                            log.warn("Rejected WebSocket token");
                         }
                     } catch (Exception e) {
                         log.warn("WebSocket authentication failed: {}", e.getMessage());
@@ -0,0 +1,30 @@
+package com.board.manager.controller;
+
+import com.board.manager.dto.BoardPurgeStatusDto;
+import com.board.manager.service.BoardPurgeService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/admin/boards")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+@SecurityRequirement(name = "bearerAuth")
+public class BoardAdminController {
+
+    private final BoardPurgeService boardPurgeService;
+
+    @GetMapping("/purge")
+    @Operation(summary = "Pending board purges", description = "Deleted boards whose tasks and members are still being removed")
+    public ResponseEntity<List<BoardPurgeStatusDto>> getPurgeStatus() {
+        return ResponseEntity.ok(boardPurgeService.getPurgeStatus());
+    }
+}
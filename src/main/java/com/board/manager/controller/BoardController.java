@@ -1,9 +1,12 @@
 package com.board.manager.controller;
 
 import com.board.manager.dto.BoardDto;
+import com.board.manager.dto.BoardSummaryDto;
+import com.board.manager.dto.BoardTaskStatsDto;
 import com.board.manager.request.CreateBoardRequest;
 import com.board.manager.model.User;
 import com.board.manager.service.BoardService;
+import com.board.manager.service.BoardTaskStatsService;
 import com.board.manager.service.WebSocketConnectionManager;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -29,13 +32,28 @@ public class BoardController {
 
     public final BoardService boardService;
     public final WebSocketConnectionManager connectionManager;
+    public final BoardTaskStatsService boardTaskStatsService;
 
     @GetMapping
-    public ResponseEntity<List<BoardDto>> getUserBoards(@AuthenticationPrincipal User currentUser) {
-        List<BoardDto> boards = boardService.findBoardsByUser(currentUser);
+    @Operation(summary = "List boards", description = "All boards the user can access; pass page and/or size to get one page instead")
+    public ResponseEntity<List<BoardDto>> getUserBoards(@AuthenticationPrincipal User currentUser,
+                                                        @RequestParam(required = false) Integer page,
+                                                        @RequestParam(required = false) Integer size) {
+        if (page == null && size == null) {
+            return ResponseEntity.ok(boardService.findBoardsByUser(currentUser));
+        }
+        List<BoardDto> boards = boardService.findBoardsByUser(currentUser,
+                page != null ? page : 0,
+                size != null ? size : BoardService.DEFAULT_PAGE_SIZE);
         return ResponseEntity.ok(boards);
     }
 
+    @GetMapping("/summary")
+    @Operation(summary = "List board summaries", description = "Lightweight board list with per-status task counts")
+    public ResponseEntity<List<BoardSummaryDto>> getUserBoardSummaries(@AuthenticationPrincipal User currentUser) {
+        return ResponseEntity.ok(boardService.findBoardSummariesByUser(currentUser));
+    }
+
     @GetMapping("/{boardId}")
     public ResponseEntity<BoardDto> getBoard(@PathVariable Integer boardId, @AuthenticationPrincipal User currentUser) {
 
@@ -48,6 +66,16 @@ public class BoardController {
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    @GetMapping("/{boardId}/stats")
+    @Operation(summary = "Get board task counts", description = "Per-status task counts read from the maintained counters")
+    public ResponseEntity<BoardTaskStatsDto> getBoardStats(@PathVariable Integer boardId, @AuthenticationPrincipal User currentUser) {
+        if (!boardService.canUserAccessBoard(boardId, currentUser)) {
+            throw new AccessDeniedException("You do not have permission to access this resource.");
+        }
+
+        return ResponseEntity.ok(boardTaskStatsService.getStats(boardId));
+    }
+
     @PostMapping()
     @Operation(summary = "Create board", description = "Create a new board")
     public ResponseEntity<BoardDto> createBoard(@Valid @RequestBody CreateBoardRequest request, @AuthenticationPrincipal User currentUser) {
@@ -0,0 +1,37 @@
+package com.board.manager.controller;
+
+import com.board.manager.dto.CacheInvalidationStatsDto;
+import com.board.manager.dto.CacheStatsDto;
+import com.board.manager.service.CacheService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/admin/cache")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+@SecurityRequirement(name = "bearerAuth")
+public class CacheAdminController {
+
+    private final CacheService cacheService;
+
+    @GetMapping("/stats")
+    @Operation(summary = "Cache statistics", description = "Hit rates of the local and Redis tiers of each cache on this node")
+    public ResponseEntity<List<CacheStatsDto>> getCacheStats() {
+        return ResponseEntity.ok(cacheService.getCacheStats());
+    }
+
+    @GetMapping("/invalidations")
+    @Operation(summary = "Board list invalidations", description = "Targeted board list evictions versus global clears on this node")
+    public ResponseEntity<CacheInvalidationStatsDto> getInvalidationStats() {
+        return ResponseEntity.ok(cacheService.getInvalidationStats());
+    }
+}
@@ -1,16 +1,24 @@
 package com.board.manager.controller;
 
 import com.board.manager.dto.TaskDto;
+import com.board.manager.dto.TaskPageDto;
 import com.board.manager.model.User;
+import com.board.manager.request.BatchTaskRequest;
 import com.board.manager.request.CreateTaskRequest;
 import com.board.manager.request.UpdateTaskRequest;
+import com.board.manager.service.BoardService;
+import com.board.manager.service.TaskExportService;
 import com.board.manager.service.TaskService;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
@@ -23,11 +31,19 @@ import java.util.UUID;
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskExportService taskExportService;
+    private final BoardService boardService;
 
 
     @PostMapping
     public ResponseEntity<TaskDto> createTask(@PathVariable Integer boardId, @Valid @RequestBody CreateTaskRequest request, @AuthenticationPrincipal User currentUser) {
-        return ResponseEntity.ok(taskService.createTask(boardId, request, currentUser));
+        return withETag(taskService.createTask(boardId, request, currentUser));
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<List<TaskDto>> applyBatch(@PathVariable Integer boardId, @Valid @RequestBody BatchTaskRequest request, @AuthenticationPrincipal User currentUser) {
+        checkBoardAccess(boardId, currentUser);
+        return ResponseEntity.ok(taskService.applyBatch(boardId, request, currentUser));
     }
 
     @GetMapping
@@ -35,26 +51,98 @@ public class TaskController {
         return ResponseEntity.ok(taskService.getTasksByBoardId(boardId));
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<TaskPageDto> getTaskPage(@PathVariable Integer boardId,
+                                                   @RequestParam(required = false) String cursor,
+                                                   @RequestParam(defaultValue = "50") int size,
+                                                   @RequestParam(required = false) String status,
+                                                   @RequestParam(required = false) Integer assigneeId,
+                                                   @RequestParam(required = false) Integer ownerId,
+                                                   @AuthenticationPrincipal User currentUser) {
+        checkBoardAccess(boardId, currentUser);
+        return ResponseEntity.ok(taskService.getTaskPage(boardId, cursor, size, status, assigneeId, ownerId));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<TaskDto>> searchTasks(@PathVariable Integer boardId,
+                                                     @RequestParam("q") String query,
+                                                     @RequestParam(defaultValue = "20") int limit,
+                                                     @AuthenticationPrincipal User currentUser) {
+        checkBoardAccess(boardId, currentUser);
+        return ResponseEntity.ok(taskService.searchTasks(boardId, query, limit));
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportTasks(@PathVariable Integer boardId,
+                                                             @RequestParam(defaultValue = "ndjson") String format,
+                                                             @AuthenticationPrincipal User currentUser) {
+        checkBoardAccess(boardId, currentUser);
+        TaskExportService.Format exportFormat = TaskExportService.Format.from(format);
+        StreamingResponseBody body = taskExportService.exportTasks(boardId, exportFormat);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"board-" + boardId + "-tasks." + exportFormat.getExtension() + "\"")
+                .body(body);
+    }
+
     @PutMapping("/{taskId}")
-    public ResponseEntity<TaskDto> updateTask(@PathVariable Integer boardId, @PathVariable UUID taskId, @Valid @RequestBody UpdateTaskRequest request, @AuthenticationPrincipal User currentUser) {
-        return ResponseEntity.ok(taskService.updateTask(boardId, taskId, request, currentUser));
+    public ResponseEntity<TaskDto> updateTask(@PathVariable Integer boardId, @PathVariable UUID taskId, @Valid @RequestBody UpdateTaskRequest request,
+                                              @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                              @AuthenticationPrincipal User currentUser) {
+        return withETag(taskService.updateTask(boardId, taskId, request, parseIfMatch(ifMatch), currentUser));
     }
 
     @PatchMapping("/{taskId}/assign")
-    public ResponseEntity<TaskDto> assignTask(@PathVariable Integer boardId, @PathVariable UUID taskId, @RequestBody Map<String, Integer> assignRequest, @AuthenticationPrincipal User currentUser) {
+    public ResponseEntity<TaskDto> assignTask(@PathVariable Integer boardId, @PathVariable UUID taskId, @RequestBody Map<String, Integer> assignRequest,
+                                              @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                              @AuthenticationPrincipal User currentUser) {
         Integer assigneeId = assignRequest.get("assigneeId");
-        return ResponseEntity.ok(taskService.assignTask(boardId, taskId, assigneeId, currentUser));
+        return withETag(taskService.assignTask(boardId, taskId, assigneeId, parseIfMatch(ifMatch), currentUser));
     }
 
     @PatchMapping("/{taskId}/status")
-    public ResponseEntity<TaskDto> updateTaskStatus(@PathVariable Integer boardId, @PathVariable UUID taskId, @RequestBody Map<String, String> statusRequest, @AuthenticationPrincipal User currentUser) {
+    public ResponseEntity<TaskDto> updateTaskStatus(@PathVariable Integer boardId, @PathVariable UUID taskId, @RequestBody Map<String, String> statusRequest,
+                                                    @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                    @AuthenticationPrincipal User currentUser) {
         String status = statusRequest.get("status");
-        return ResponseEntity.ok(taskService.updateTaskStatus(boardId, taskId, status, currentUser));
+        return withETag(taskService.updateTaskStatus(boardId, taskId, status, parseIfMatch(ifMatch), currentUser));
     }
 
     @DeleteMapping("/{taskId}")
-    public ResponseEntity<Void> deleteTask(@PathVariable Integer boardId, @PathVariable UUID taskId, @AuthenticationPrincipal User currentUser) {
-        taskService.deleteTask(boardId, taskId, currentUser);
+    public ResponseEntity<Void> deleteTask(@PathVariable Integer boardId, @PathVariable UUID taskId,
+                                           @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                           @AuthenticationPrincipal User currentUser) {
+        taskService.deleteTask(boardId, taskId, parseIfMatch(ifMatch), currentUser);
         return ResponseEntity.noContent().build();
     }
+
+    private void checkBoardAccess(Integer boardId, User currentUser) {
+        if (!boardService.canUserAccessBoard(boardId, currentUser)) {
+            throw new AccessDeniedException("You do not have permission to access this resource.");
+        }
+    }
+
+    private static ResponseEntity<TaskDto> withETag(TaskDto task) {
+        return ResponseEntity.ok()
+                .eTag(String.valueOf(task.getVersion()))
+                .body(task);
+    }
+
+    // Accepts 3, "3" and W/"3"; "*" or a missing header means no precondition
+    private static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String value = ifMatch.trim();
+        if (value.startsWith("W/")) {
+            value = value.substring(2);
+        }
+        value = value.replace("\"", "");
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid If-Match header");
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.board.manager.controller;
+
+import com.board.manager.dto.BroadcastStatsDto;
+import com.board.manager.service.BoardUpdateCoalescer;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/admin/websocket")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+@SecurityRequirement(name = "bearerAuth")
+public class WebSocketAdminController {
+
+    private final BoardUpdateCoalescer boardUpdateCoalescer;
+
+    @GetMapping("/stats")
+    @Operation(summary = "Board broadcast statistics", description = "Coalesced board updates and frame rates on this node")
+    public ResponseEntity<BroadcastStatsDto> getBroadcastStats() {
+        return ResponseEntity.ok(boardUpdateCoalescer.stats());
+    }
+}
@@ -3,6 +3,7 @@ package com.board.manager.controller;
 import com.board.manager.dto.BoardUpdateDto;
 import com.board.manager.model.User;
 import com.board.manager.service.BoardService;
+import com.board.manager.service.BoardUpdateCoalescer;
 import com.board.manager.service.WebSocketConnectionManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,6 +28,7 @@ public class WebSocketController {
     private final SimpMessagingTemplate messagingTemplate;
     private final BoardService boardAccessService;
     private final WebSocketConnectionManager connectionManager;
+    private final BoardUpdateCoalescer boardUpdateCoalescer;
 
     @MessageMapping("/board/{boardId}/join")
     public void joinBoard(@DestinationVariable Integer boardId, Principal principal, SimpMessageHeaderAccessor headerAccessor) {
@@ -69,7 +71,7 @@ public class WebSocketController {
                     .timestamp(LocalDateTime.now())
                     .build();
 
-            messagingTemplate.convertAndSend("/topic/board/" + boardId, update);
+            boardUpdateCoalescer.submit(boardId, update);
 
             // Send active users list to the joining user
             var activeUsers = connectionManager.getActiveBoardUsers(boardId);
@@ -119,7 +121,7 @@ public class WebSocketController {
                     .timestamp(LocalDateTime.now())
                     .build();
 
-            messagingTemplate.convertAndSend("/topic/board/" + boardId, update);
+            boardUpdateCoalescer.submit(boardId, update);
             log.info("User {} successfully left board {}", username, boardId);
 
         } catch (Exception e) {
@@ -0,0 +1,18 @@
+package com.board.manager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardPurgeStatusDto {
+    private Integer boardId;
+    private String name;
+    private LocalDateTime deletedAt;
+    private long remainingTasks;
+    private long remainingMembers;
+}
@@ -0,0 +1,37 @@
+package com.board.manager.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+public class BoardSummaryDto {
+    private Integer id;
+    private String name;
+    private UserSummaryDto owner;
+    private long todoCount;
+    private long inProgressCount;
+    private long doneCount;
+    private LocalDateTime lastUpdatedAt;
+
+    // Used by the aggregate constructor expression in BoardRepository
+    public BoardSummaryDto(Integer id, String name, Integer ownerId, String ownerUsername,
+                           Long todoCount, Long inProgressCount, Long doneCount,
+                           LocalDateTime boardUpdatedAt, LocalDateTime lastTaskUpdatedAt) {
+        this.id = id;
+        this.name = name;
+        this.owner = new UserSummaryDto();
+        this.owner.setId(ownerId);
+        this.owner.setUsername(ownerUsername);
+        this.todoCount = todoCount != null ? todoCount : 0;
+        this.inProgressCount = inProgressCount != null ? inProgressCount : 0;
+        this.doneCount = doneCount != null ? doneCount : 0;
+        if (lastTaskUpdatedAt != null && (boardUpdatedAt == null || lastTaskUpdatedAt.isAfter(boardUpdatedAt))) {
+            this.lastUpdatedAt = lastTaskUpdatedAt;
+        } else {
+            this.lastUpdatedAt = boardUpdatedAt;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.board.manager.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class BoardTaskStatsDto {
+    private Integer boardId;
+    private long todoCount;
+    private long inProgressCount;
+    private long doneCount;
+    private long totalCount;
+
+    public BoardTaskStatsDto(Integer boardId, Long todoCount, Long inProgressCount, Long doneCount) {
+        this.boardId = boardId;
+        this.todoCount = todoCount != null ? todoCount : 0;
+        this.inProgressCount = inProgressCount != null ? inProgressCount : 0;
+        this.doneCount = doneCount != null ? doneCount : 0;
+        this.totalCount = this.todoCount + this.inProgressCount + this.doneCount;
+    }
+}
@@ -7,25 +7,33 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class BoardUpdateDto {
     
     public enum UpdateType {
         TASK_CREATED, TASK_UPDATED, TASK_DELETED, TASK_ASSIGNED, 
-        USER_JOINED, USER_LEFT, BOARD_UPDATED
+        USER_JOINED, USER_LEFT, BOARD_UPDATED, BATCH
     }
     
     private UpdateType type;
     private Integer boardId;
     private UUID taskId;
     private TaskDto taskData;
+    // Changed task fields by TaskDto property name; delta subscribers get these instead of taskData
+    private Map<String, Object> changes;
+    // Task version after the change, so delta subscribers can detect a missed update
+    private Long version;
     private Integer userId;
     private String username;
     private String message;
     private LocalDateTime timestamp;
+    // Individual updates carried by a BATCH frame
+    private List<BoardUpdateDto> updates;
 }
@@ -0,0 +1,21 @@
+package com.board.manager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BroadcastStatsDto {
+    // Board updates handed to the coalescer
+    private long updatesSubmitted;
+    // Updates merged into a later update to the same task, or cancelled out by a delete
+    private long updatesCollapsed;
+    // STOMP frames sent to board topics; a frame sent to both the full and the /delta topic counts twice
+    private long framesSent;
+    // Frames sent across all boards and topics during the last full second
+    private long framesLastSecond;
+    // Frames per second seen by a subscriber of the busiest board during the last full second
+    private long peakBoardFramesPerSecond;
+}
@@ -0,0 +1,15 @@
+package com.board.manager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheInvalidationStatsDto {
+    // Per-user board list entries evicted through the board audience index
+    private long targetedEvictions;
+    // Times the whole boards and boardSummaries caches were cleared
+    private long globalClears;
+}
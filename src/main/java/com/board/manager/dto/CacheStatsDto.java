@@ -0,0 +1,20 @@
+package com.board.manager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatsDto {
+    private String cacheName;
+    private long localSize;
+    private long localHits;
+    private long localMisses;
+    private double localHitRate;
+    private long remoteHits;
+    private long remoteMisses;
+    private double remoteHitRate;
+    private long remoteInvalidations;
+}
@@ -12,4 +12,5 @@ public class TaskDto {
     private UserSummaryDto owner;
     private UserSummaryDto assignedTo;
     private String status;
+    private Long version;
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.board.manager.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskPageDto {
+    private List<TaskDto> tasks;
+    // Opaque cursor for the next page, null when there are no more tasks
+    private String nextCursor;
+    private boolean hasMore;
+}
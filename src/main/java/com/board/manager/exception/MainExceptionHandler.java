@@ -4,6 +4,7 @@ import com.board.manager.exception.response.ErrorDetails;
 import com.board.manager.exception.response.ValidationFailedResponse;
 import com.board.manager.exception.response.ViolationErrors;
 import jakarta.persistence.EntityNotFoundException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
@@ -59,6 +60,20 @@ public class MainExceptionHandler {
                 request.getDescription(false), HttpStatus.NOT_FOUND), HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<Object> handlePreconditionFailedException(PreconditionFailedException exception, WebRequest request) {
+        return new ResponseEntity<>(new ErrorDetails(LocalDateTime.now(), exception.getMessage(),
+                request.getDescription(false), HttpStatus.PRECONDITION_FAILED), HttpStatus.PRECONDITION_FAILED);
+    }
+
+    // Lost an optimistic-lock race: nothing was written, so the client can reload and retry
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Object> handleOptimisticLockingFailureException(OptimisticLockingFailureException exception, WebRequest request) {
+        return new ResponseEntity<>(new ErrorDetails(LocalDateTime.now(),
+                "Resource was modified concurrently, reload it and retry",
+                request.getDescription(false), HttpStatus.CONFLICT), HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Object> handleAllExceptions(Exception exception, WebRequest request) {
         return new ResponseEntity<>(new ErrorDetails(LocalDateTime.now(), exception.getMessage(),
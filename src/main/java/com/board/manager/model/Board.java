@@ -2,6 +2,7 @@ package com.board.manager.model;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -11,6 +12,9 @@ import java.util.List;
 
 @Data
 @Entity
+@Table(indexes = {
+    @Index(name = "idx_board_owner", columnList = "owner_id")
+})
 public class Board {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -31,6 +35,14 @@ public class Board {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Soft-delete marker; BoardPurgeService removes the children and the row in the background
+    @ColumnDefault("false")
+    @Column(nullable = false)
+    private boolean deleted = false;
+
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
     // tasks relation in Task model
     @OneToMany(mappedBy = "board", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Task> tasks = new ArrayList<>();
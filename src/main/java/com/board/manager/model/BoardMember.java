@@ -12,6 +12,8 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "board_members", uniqueConstraints = {
     @UniqueConstraint(columnNames = {"board_id", "user_id"})
+}, indexes = {
+    @Index(name = "idx_board_members_user_board", columnList = "user_id, board_id")
 })
 public class BoardMember {
     @Id
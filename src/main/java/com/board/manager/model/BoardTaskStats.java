@@ -0,0 +1,52 @@
+package com.board.manager.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Per-board task counters, split over a few stripe rows so concurrent task writes on the same
+ * board rarely contend for the same row lock. A board's totals are the sum of its stripes.
+ */
+@Data
+@NoArgsConstructor
+@Entity
+@Table(name = "board_task_stats")
+@IdClass(BoardTaskStats.Key.class)
+public class BoardTaskStats {
+
+    @Id
+    @Column(name = "board_id")
+    private Integer boardId;
+
+    @Id
+    private Integer stripe;
+
+    @Column(name = "todo_count", nullable = false)
+    private long todoCount;
+
+    @Column(name = "in_progress_count", nullable = false)
+    private long inProgressCount;
+
+    @Column(name = "done_count", nullable = false)
+    private long doneCount;
+
+    public BoardTaskStats(Integer boardId, Integer stripe) {
+        this.boardId = boardId;
+        this.stripe = stripe;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        @Serial
+        private static final long serialVersionUID = 1L;
+        private Integer boardId;
+        private Integer stripe;
+    }
+}
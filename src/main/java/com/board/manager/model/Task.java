@@ -2,6 +2,7 @@ package com.board.manager.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -9,7 +10,12 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+    @Index(name = "idx_tasks_board_updated", columnList = "board_id, updated_at, id"),
+    @Index(name = "idx_tasks_board_status_updated", columnList = "board_id, status, updated_at, id"),
+    @Index(name = "idx_tasks_board_assignee_updated", columnList = "board_id, assigned_to, updated_at, id"),
+    @Index(name = "idx_tasks_board_owner_updated", columnList = "board_id, owner_id, updated_at, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -50,6 +56,12 @@ public class Task {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Optimistic lock; exposed to clients as the task's ETag
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long version;
+
     public enum Status {
         TODO, IN_PROGRESS, DONE
     }
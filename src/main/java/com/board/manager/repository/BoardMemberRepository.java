@@ -4,6 +4,7 @@ import com.board.manager.model.Board;
 import com.board.manager.model.BoardMember;
 import com.board.manager.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -19,6 +20,8 @@ public interface BoardMemberRepository extends JpaRepository<BoardMember, Intege
     List<BoardMember> findByBoard(Board board);
     
     List<BoardMember> findByUser(User user);
+
+    List<BoardMember> findByUserAndBoardDeletedFalse(User user);
     
     @Query("SELECT bm FROM BoardMember bm WHERE bm.board.id = :boardId AND bm.user.id = :userId")
     Optional<BoardMember> findByBoardIdAndUserId(@Param("boardId") Integer boardId, @Param("userId") Integer userId);
@@ -29,4 +32,8 @@ public interface BoardMemberRepository extends JpaRepository<BoardMember, Intege
     boolean existsByBoardAndUser(Board board, User user);
     
     void deleteByBoardAndUser(Board board, User user);
+
+    @Modifying
+    @Query("DELETE FROM BoardMember bm WHERE bm.board.id = :boardId")
+    int deleteAllByBoardId(@Param("boardId") Integer boardId);
 }
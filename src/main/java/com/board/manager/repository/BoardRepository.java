@@ -1,11 +1,82 @@
 package com.board.manager.repository;
 
+import com.board.manager.dto.BoardPurgeStatusDto;
+import com.board.manager.dto.BoardSummaryDto;
 import com.board.manager.model.Board;
 import com.board.manager.model.User;
+import com.board.manager.service.permission.BoardAccessRow;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface BoardRepository extends JpaRepository<Board, Integer> {
     List<Board> findByOwner(User user);
-}
\ No newline at end of file
+
+    @Query("SELECT b FROM Board b WHERE b.id = :boardId AND b.deleted = false")
+    Optional<Board> findActiveById(@Param("boardId") Integer boardId);
+
+    boolean existsByIdAndDeletedFalse(Integer boardId);
+
+    // Serializes the creation of a board's task counters across nodes
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Board b WHERE b.id = :boardId")
+    Optional<Board> lockById(@Param("boardId") Integer boardId);
+
+    @Query("SELECT new com.board.manager.service.permission.BoardAccessRow(b.owner.id, bm.role) FROM Board b " +
+            "LEFT JOIN BoardMember bm ON bm.board = b AND bm.user.id = :userId " +
+            "WHERE b.id = :boardId AND b.deleted = false")
+    Optional<BoardAccessRow> findAccessRow(@Param("boardId") Integer boardId, @Param("userId") Integer userId);
+
+    List<Board> findAllByDeletedFalse(Pageable pageable);
+
+    // Owned and shared boards in one statement; EXISTS keeps the result distinct without a DISTINCT sort
+    @Query("SELECT b FROM Board b WHERE b.deleted = false AND (b.owner.id = :userId " +
+            "OR EXISTS (SELECT 1 FROM BoardMember bm WHERE bm.board = b AND bm.user.id = :userId))")
+    List<Board> findAccessibleBy(@Param("userId") Integer userId, Pageable pageable);
+
+    // Counts come from the board_task_stats stripes; the last task update is an index seek per board
+    String SUMMARY_SELECT = "SELECT new com.board.manager.dto.BoardSummaryDto(b.id, b.name, o.id, o.username, " +
+            "SUM(s.todoCount), SUM(s.inProgressCount), SUM(s.doneCount), " +
+            "b.updatedAt, (SELECT MAX(t.updatedAt) FROM Task t WHERE t.board = b)) " +
+            "FROM Board b JOIN b.owner o LEFT JOIN BoardTaskStats s ON s.boardId = b.id ";
+
+    String SUMMARY_GROUP_BY = "GROUP BY b.id, b.name, o.id, o.username, b.updatedAt ORDER BY b.name";
+
+    @Query(SUMMARY_SELECT + "WHERE b.deleted = false " + SUMMARY_GROUP_BY)
+    List<BoardSummaryDto> findAllSummaries();
+
+    @Query(SUMMARY_SELECT +
+            "WHERE b.deleted = false AND (o.id = :userId " +
+            "OR EXISTS (SELECT 1 FROM BoardMember bm WHERE bm.board = b AND bm.user.id = :userId)) " +
+            SUMMARY_GROUP_BY)
+    List<BoardSummaryDto> findSummariesAccessibleBy(@Param("userId") Integer userId);
+
+    // The name is suffixed so it can be reused right away, before the purge removes the row. It is cut to 233
+    // characters first, so the suffix of at most 22 ("[deleted #" and a 10 digit id) fits the 255 character column
+    @Modifying
+    @Query("UPDATE Board b SET b.deleted = true, b.deletedAt = :deletedAt, " +
+            "b.name = CONCAT(SUBSTRING(b.name, 1, 233), ' [deleted #', CAST(b.id AS String), ']') " +
+            "WHERE b.id = :boardId AND b.deleted = false")
+    int markDeleted(@Param("boardId") Integer boardId, @Param("deletedAt") LocalDateTime deletedAt);
+
+    @Query("SELECT b.id FROM Board b WHERE b.deleted = true ORDER BY b.deletedAt")
+    List<Integer> findDeletedBoardIds();
+
+    @Query("SELECT new com.board.manager.dto.BoardPurgeStatusDto(b.id, b.name, b.deletedAt, " +
+            "(SELECT COUNT(t) FROM Task t WHERE t.board = b), " +
+            "(SELECT COUNT(m) FROM BoardMember m WHERE m.board = b)) " +
+            "FROM Board b WHERE b.deleted = true ORDER BY b.deletedAt")
+    List<BoardPurgeStatusDto> findPurgeStatus();
+
+    @Modifying
+    @Query("DELETE FROM Board b WHERE b.id = :boardId AND b.deleted = true")
+    int deleteDeletedById(@Param("boardId") Integer boardId);
+}
@@ -0,0 +1,38 @@
+package com.board.manager.repository;
+
+import com.board.manager.dto.BoardTaskStatsDto;
+import com.board.manager.model.BoardTaskStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface BoardTaskStatsRepository extends JpaRepository<BoardTaskStats, BoardTaskStats.Key> {
+
+    @Modifying
+    @Query("UPDATE BoardTaskStats s SET s.todoCount = s.todoCount + :todo, " +
+            "s.inProgressCount = s.inProgressCount + :inProgress, s.doneCount = s.doneCount + :done " +
+            "WHERE s.boardId = :boardId AND s.stripe = :stripe")
+    int increment(@Param("boardId") Integer boardId, @Param("stripe") Integer stripe,
+                  @Param("todo") long todo, @Param("inProgress") long inProgress, @Param("done") long done);
+
+    @Query("SELECT new com.board.manager.dto.BoardTaskStatsDto(s.boardId, SUM(s.todoCount), SUM(s.inProgressCount), SUM(s.doneCount)) " +
+            "FROM BoardTaskStats s WHERE s.boardId = :boardId GROUP BY s.boardId")
+    Optional<BoardTaskStatsDto> findTotalsByBoardId(@Param("boardId") Integer boardId);
+
+    boolean existsByBoardId(Integer boardId);
+
+    // Per-status task counts of one board: {status, count}
+    @Query("SELECT t.status, COUNT(t) FROM Task t WHERE t.board.id = :boardId GROUP BY t.status")
+    List<Object[]> countTasksByStatus(@Param("boardId") Integer boardId);
+
+    @Query("SELECT b.id FROM Board b WHERE NOT EXISTS (SELECT 1 FROM BoardTaskStats s WHERE s.boardId = b.id)")
+    List<Integer> findBoardIdsWithoutStats();
+
+    @Modifying
+    @Query("DELETE FROM BoardTaskStats s WHERE s.boardId = :boardId")
+    int deleteAllByBoardId(@Param("boardId") Integer boardId);
+}
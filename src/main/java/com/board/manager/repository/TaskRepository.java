@@ -1,15 +1,78 @@
 package com.board.manager.repository;
 
 import com.board.manager.model.Task;
+import com.board.manager.service.search.IndexedTask;
+import jakarta.persistence.QueryHint;
 import org.javers.spring.annotation.JaversSpringDataAuditable;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @JaversSpringDataAuditable
 public interface TaskRepository extends JpaRepository<Task, UUID> {
     List<Task> findByBoardId(Integer boardId);
     void deleteByIdAndBoardId(UUID id, Integer boardId);
     Optional<Task> findByIdAndBoardId(UUID id, Integer boardId);
-}
\ No newline at end of file
+
+    // Read path for board task lists: owner and assignee are fetched in the same statement
+    @Query("SELECT t FROM Task t LEFT JOIN FETCH t.owner LEFT JOIN FETCH t.assignedTo WHERE t.board.id = :boardId")
+    List<Task> findAllWithUsersByBoardId(@Param("boardId") Integer boardId);
+
+    @Query("SELECT t FROM Task t LEFT JOIN FETCH t.owner LEFT JOIN FETCH t.assignedTo " +
+            "WHERE t.board.id = :boardId AND t.id IN :ids")
+    List<Task> findAllWithUsersByBoardIdAndIdIn(@Param("boardId") Integer boardId, @Param("ids") Collection<UUID> ids);
+
+    // Forward-only cursor for exports; the caller must consume it inside a transaction and close it
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "500"))
+    @Query("SELECT t FROM Task t LEFT JOIN FETCH t.owner LEFT JOIN FETCH t.assignedTo WHERE t.board.id = :boardId")
+    Stream<Task> streamAllWithUsersByBoardId(@Param("boardId") Integer boardId);
+
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("SELECT new com.board.manager.service.search.IndexedTask(t.id, t.board.id, t.title, t.description) " +
+            "FROM Task t WHERE t.board.deleted = false")
+    Stream<IndexedTask> streamAllForIndex();
+
+    @Query("SELECT new com.board.manager.service.search.IndexedTask(t.id, t.board.id, t.title, t.description) " +
+            "FROM Task t WHERE t.id = :taskId AND t.board.deleted = false")
+    Optional<IndexedTask> findForIndex(@Param("taskId") UUID taskId);
+
+    // Keyset page ordered by (updatedAt, id) descending; a null cursor starts from the newest task
+    @Query("SELECT t FROM Task t LEFT JOIN FETCH t.owner o LEFT JOIN FETCH t.assignedTo a " +
+            "WHERE t.board.id = :boardId " +
+            "AND (:status IS NULL OR t.status = :status) " +
+            "AND (:assigneeId IS NULL OR a.id = :assigneeId) " +
+            "AND (:ownerId IS NULL OR o.id = :ownerId) " +
+            "AND (:cursorUpdatedAt IS NULL OR t.updatedAt < :cursorUpdatedAt " +
+            "     OR (t.updatedAt = :cursorUpdatedAt AND t.id < :cursorId)) " +
+            "ORDER BY t.updatedAt DESC, t.id DESC")
+    List<Task> findPageByBoardId(@Param("boardId") Integer boardId,
+                                 @Param("status") Task.Status status,
+                                 @Param("assigneeId") Integer assigneeId,
+                                 @Param("ownerId") Integer ownerId,
+                                 @Param("cursorUpdatedAt") LocalDateTime cursorUpdatedAt,
+                                 @Param("cursorId") UUID cursorId,
+                                 Pageable pageable);
+
+    // Rows written before updated_at was maintained; keyset paging needs a value on every row
+    @Modifying
+    @Query("UPDATE Task t SET t.updatedAt = t.createdAt WHERE t.updatedAt IS NULL")
+    int backfillMissingUpdatedAt();
+
+    // Bulk purge of soft-deleted boards: bounded id chunks, deleted without loading the entities
+    @Query("SELECT t.id FROM Task t WHERE t.board.id = :boardId")
+    List<UUID> findIdsByBoardId(@Param("boardId") Integer boardId, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM Task t WHERE t.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<UUID> ids);
+}
@@ -0,0 +1,34 @@
+package com.board.manager.request;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import lombok.Data;
+
+import java.util.UUID;
+
+@Data
+public class BatchTaskOperation {
+
+    public enum Type {
+        CREATE, UPDATE, STATUS, ASSIGN
+    }
+
+    @NotNull(message = "type cannot be null")
+    private Type type;
+
+    // Required for every type except CREATE
+    private UUID taskId;
+
+    private String title;
+    private String description;
+
+    @Pattern(regexp = "TODO|IN_PROGRESS|DONE",
+             message = "Status must be one of TODO, IN_PROGRESS, DONE")
+    private String status;
+
+    // 0 unassigns the task, as in UpdateTaskRequest
+    private Integer assignedTo;
+
+    // Optional expected task version; the batch fails with 412 if the task has moved on
+    private Long version;
+}
@@ -0,0 +1,16 @@
+package com.board.manager.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BatchTaskRequest {
+
+    @NotEmpty(message = "operations cannot be empty")
+    @Size(max = 500, message = "A batch can contain at most 500 operations")
+    private List<@Valid BatchTaskOperation> operations;
+}
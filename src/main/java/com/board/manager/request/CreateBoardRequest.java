@@ -1,6 +1,7 @@
 package com.board.manager.request;
 
 import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import lombok.Builder;
 import lombok.Data;
 
@@ -8,5 +9,6 @@ import lombok.Data;
 @Builder
 public class CreateBoardRequest {
     @NotEmpty(message = "name cannot be empty")
+    @Size(max = 255, message = "name must be at most 255 characters")
     private String name;
 }
\ No newline at end of file
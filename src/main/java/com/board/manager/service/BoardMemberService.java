@@ -1,5 +1,6 @@
 package com.board.manager.service;
 
+import com.board.manager.cache.BoardAudienceIndex;
 import com.board.manager.dto.BoardMemberDto;
 import com.board.manager.dto.BoardMembersResponse;
 import com.board.manager.dto.MemberDto;
@@ -10,6 +11,7 @@ import com.board.manager.model.User;
 import com.board.manager.repository.BoardMemberRepository;
 import com.board.manager.repository.BoardRepository;
 import com.board.manager.repository.UserRepository;
+import com.board.manager.service.permission.BoardPermissionResolver;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.AccessDeniedException;
@@ -17,7 +19,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
@@ -28,9 +29,11 @@ public class BoardMemberService {
     private final BoardRepository boardRepository;
     private final UserRepository userRepository;
     private final BoardMemberMapper boardMemberMapper;
+    private final BoardAudienceIndex boardAudienceIndex;
+    private final BoardPermissionResolver boardPermissionResolver;
 
     public BoardMemberDto addMemberToBoard(Integer boardId, String userEmail, BoardMember.BoardRole role, User currentUser) {
-        Board board = boardRepository.findById(boardId)
+        Board board = boardRepository.findActiveById(boardId)
                 .orElseThrow(() -> new EntityNotFoundException("Board not found"));
 
         // Check if current user has permission to add members (must be owner or admin)
@@ -57,11 +60,14 @@ public class BoardMemberService {
         boardMember.setRole(role);
 
         BoardMember saved = boardMemberRepository.save(boardMember);
+        // The new member's board lists now miss this board
+        boardAudienceIndex.evictUser(userToAdd.getId());
+        boardPermissionResolver.invalidate(boardId, userToAdd.getId());
         return boardMemberMapper.toDto(saved);
     }
 
     public void removeMemberFromBoard(Integer boardId, Integer userId, User currentUser) {
-        Board board = boardRepository.findById(boardId)
+        Board board = boardRepository.findActiveById(boardId)
                 .orElseThrow(() -> new EntityNotFoundException("Board not found"));
 
         User userToRemove = userRepository.findById(userId)
@@ -78,10 +84,12 @@ public class BoardMemberService {
         }
 
         boardMemberRepository.deleteByBoardAndUser(board, userToRemove);
+        boardAudienceIndex.evictUser(userId);
+        boardPermissionResolver.invalidate(boardId, userId);
     }
 
     public BoardMemberDto updateMemberRole(Integer boardId, Integer userId, BoardMember.BoardRole newRole, User currentUser) {
-        Board board = boardRepository.findById(boardId)
+        Board board = boardRepository.findActiveById(boardId)
                 .orElseThrow(() -> new EntityNotFoundException("Board not found"));
 
         // Check if current user has permission to update roles
@@ -99,11 +107,12 @@ public class BoardMemberService {
 
         boardMember.setRole(newRole);
         BoardMember updated = boardMemberRepository.save(boardMember);
+        boardPermissionResolver.invalidate(boardId, userId);
         return boardMemberMapper.toDto(updated);
     }
 
     public BoardMembersResponse getBoardMembers(Integer boardId, User currentUser) {
-        Board board = boardRepository.findById(boardId)
+        Board board = boardRepository.findActiveById(boardId)
                 .orElseThrow(() -> new EntityNotFoundException("Board not found"));
 
         // Check if current user has access to this board
@@ -123,58 +132,21 @@ public class BoardMemberService {
     }
 
     public List<BoardMemberDto> getUserBoardMemberships(User user) {
-        List<BoardMember> memberships = boardMemberRepository.findByUser(user);
+        List<BoardMember> memberships = boardMemberRepository.findByUserAndBoardDeletedFalse(user);
         return boardMemberMapper.toDtoList(memberships);
     }
 
     public boolean hasPermission(Integer boardId, User user, BoardMember.BoardRole requiredRole) {
-        Board board = boardRepository.findById(boardId)
-                .orElseThrow(() -> new EntityNotFoundException("Board not found"));
-
-        // Board owner has all permissions
-        if (board.getOwner().getId().equals(user.getId())) {
-            return true;
-        }
-
-        Optional<BoardMember> membership = boardMemberRepository.findByBoardAndUser(board, user);
-        if (membership.isEmpty()) {
-            return false;
-        }
-
-        BoardMember.BoardRole userRole = membership.get().getRole();
-        return hasRolePermission(userRole, requiredRole);
+        return boardPermissionResolver.hasPermission(boardId, user, requiredRole);
     }
 
     private boolean hasAdminPermission(Board board, User user) {
-        // Board owner always has admin permission
-        if (board.getOwner().getId().equals(user.getId())) {
-            return true;
-        }
-
-        Optional<BoardMember> membership = boardMemberRepository.findByBoardAndUser(board, user);
-        return membership.isPresent() &&
-               (membership.get().getRole() == BoardMember.BoardRole.ADMIN);
+        // Board owner and board admins can manage members
+        return boardPermissionResolver.hasPermission(board.getId(), user, BoardMember.BoardRole.ADMIN);
     }
 
     private boolean hasAnyPermission(Board board, User user) {
-        // Board owner always has access
-        if (board.getOwner().getId().equals(user.getId())) {
-            return true;
-        }
-
-        return boardMemberRepository.existsByBoardAndUser(board, user);
-    }
-
-    private boolean hasRolePermission(BoardMember.BoardRole userRole, BoardMember.BoardRole requiredRole) {
-        // Define role hierarchy: OWNER > ADMIN > EDITOR > VIEWER
-        return switch (requiredRole) {
-            case VIEWER -> true; // All roles can view
-            case EDITOR -> userRole == BoardMember.BoardRole.OWNER ||
-                          userRole == BoardMember.BoardRole.ADMIN ||
-                          userRole == BoardMember.BoardRole.EDITOR;
-            case ADMIN -> userRole == BoardMember.BoardRole.OWNER ||
-                         userRole == BoardMember.BoardRole.ADMIN;
-            case OWNER -> userRole == BoardMember.BoardRole.OWNER;
-        };
+        // Board owner and every member have access
+        return boardPermissionResolver.resolveRole(board.getId(), user.getId()).isPresent();
     }
 }
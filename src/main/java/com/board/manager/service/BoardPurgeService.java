@@ -0,0 +1,89 @@
+package com.board.manager.service;
+
+import com.board.manager.dto.BoardPurgeStatusDto;
+import com.board.manager.repository.BoardMemberRepository;
+import com.board.manager.repository.BoardRepository;
+import com.board.manager.repository.BoardTaskStatsRepository;
+import com.board.manager.repository.TaskRepository;
+import com.board.manager.service.search.TaskSearchIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Background removal of soft-deleted boards. Tasks are deleted in bounded chunks, each in its
+ * own short transaction, with JPQL bulk deletes so no child entity is loaded or audited.
+ */
+@Slf4j
+@Service
+public class BoardPurgeService {
+
+    private final BoardRepository boardRepository;
+    private final TaskRepository taskRepository;
+    private final BoardMemberRepository boardMemberRepository;
+    private final BoardTaskStatsRepository boardTaskStatsRepository;
+    private final TaskSearchIndex taskSearchIndex;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.board.purge.chunk-size:1000}")
+    private int chunkSize;
+
+    public BoardPurgeService(BoardRepository boardRepository,
+                             TaskRepository taskRepository,
+                             BoardMemberRepository boardMemberRepository,
+                             BoardTaskStatsRepository boardTaskStatsRepository,
+                             TaskSearchIndex taskSearchIndex,
+                             PlatformTransactionManager transactionManager) {
+        this.boardRepository = boardRepository;
+        this.taskRepository = taskRepository;
+        this.boardMemberRepository = boardMemberRepository;
+        this.boardTaskStatsRepository = boardTaskStatsRepository;
+        this.taskSearchIndex = taskSearchIndex;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${app.board.purge.interval-ms:10000}")
+    public void purgeDeletedBoards() {
+        List<Integer> boardIds = boardRepository.findDeletedBoardIds();
+        for (Integer boardId : boardIds) {
+            try {
+                purgeBoard(boardId);
+            } catch (Exception e) {
+                // Leave the board marked deleted; the next run resumes where this one stopped
+                log.error("Failed to purge board {}: {}", boardId, e.getMessage(), e);
+            }
+        }
+    }
+
+    public List<BoardPurgeStatusDto> getPurgeStatus() {
+        return boardRepository.findPurgeStatus();
+    }
+
+    private void purgeBoard(Integer boardId) {
+        long purgedTasks = 0;
+        int deleted;
+        do {
+            deleted = transactionTemplate.execute(status -> {
+                List<UUID> taskIds = taskRepository.findIdsByBoardId(boardId, PageRequest.of(0, chunkSize));
+                return taskIds.isEmpty() ? 0 : taskRepository.deleteAllByIdIn(taskIds);
+            });
+            purgedTasks += deleted;
+        } while (deleted > 0);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            boardMemberRepository.deleteAllByBoardId(boardId);
+            boardTaskStatsRepository.deleteAllByBoardId(boardId);
+            boardRepository.deleteDeletedById(boardId);
+        });
+
+        taskSearchIndex.removeBoard(boardId);
+        log.info("Purged board {} ({} tasks)", boardId, purgedTasks);
+    }
+}
@@ -1,24 +1,33 @@
 package com.board.manager.service;
 
+import com.board.manager.cache.BoardAudienceIndex;
+import com.board.manager.cache.BoardTaskCache;
 import com.board.manager.dto.BoardDto;
+import com.board.manager.dto.BoardSummaryDto;
 import com.board.manager.mapper.BoardMapper;
 import com.board.manager.model.Board;
 import com.board.manager.model.BoardMember;
 import com.board.manager.model.User;
 import com.board.manager.repository.BoardRepository;
 import com.board.manager.repository.BoardMemberRepository;
+import com.board.manager.service.permission.BoardPermissionResolver;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import java.util.ArrayList;
-import java.util.HashSet;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -27,14 +36,20 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class BoardServiceImpl implements BoardService {
 
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final Sort BOARD_ORDER = Sort.by("name", "id");
+
     private final BoardRepository boardRepository;
     private final BoardMemberRepository boardMemberRepository;
     private final BoardMapper boardMapper;
+    private final BoardTaskCache boardTaskCache;
+    private final BoardAudienceIndex boardAudienceIndex;
+    private final BoardPermissionResolver boardPermissionResolver;
+    private final BoardTaskStatsService boardTaskStatsService;
+    private final CacheManager cacheManager;
 
-    @Caching(evict = {
-        @CacheEvict(value = "boards", allEntries = true),
-        @CacheEvict(value = "board", key = "#result.id", condition = "#result != null")
-    })
+    @Transactional
+    @CacheEvict(value = "board", key = "#result.id", condition = "#result != null")
     public BoardDto createBoard(String name, User owner) {
         Board board = new Board();
         board.setName(name.trim());
@@ -47,89 +62,112 @@ public class BoardServiceImpl implements BoardService {
         ownerMembership.setUser(owner);
         ownerMembership.setRole(BoardMember.BoardRole.OWNER);
         boardMemberRepository.save(ownerMembership);
+        boardTaskStatsService.initializeBoard(savedBoard.getId());
+
+        // Only the owner and admins can see a new board
+        afterCommit(() -> {
+            boardAudienceIndex.evictUser(owner.getId());
+            boardAudienceIndex.evictBoard(savedBoard.getId());
+        });
 
         log.debug("Created board with ID: {} and invalidated cache", savedBoard.getId());
         return boardMapper.toDto(savedBoard);
     }
 
-    @Transactional(readOnly = true)
     public boolean canUserAccessBoard(Integer boardId, User user) {
-        log.debug("Checking access for user: {} to board: {}", user.getUsername(), boardId);
-
-        if (user.getRole() == User.Role.ADMIN) {
-            log.debug("User {} has admin access to all boards", user.getUsername());
-            return true;
+        // Owner and membership lookups are cached by the resolver; this runs on every STOMP subscribe and ping
+        try {
+            boolean canAccess = boardPermissionResolver.canAccess(boardId, user);
+            log.debug("User {} access to board {}: {}", user.getUsername(), boardId, canAccess);
+            return canAccess;
+        } catch (EntityNotFoundException e) {
+            log.warn("Board {} not found when checking access for user {}", boardId, user.getUsername());
+            throw e;
         }
-
-        return boardRepository.findById(boardId)
-                .map(board -> {
-                    // Check if user is the board owner (always has access)
-                    if (board.getOwner().getId().equals(user.getId())) {
-                        log.debug("User {} is the owner of board {}", user.getUsername(), boardId);
-                        return true;
-                    }
-
-                    // Check if user is a member of the board
-                    boolean isMember = boardMemberRepository.existsByBoardAndUser(board, user);
-                    log.debug("User {} membership status for board {}: {}",
-                             user.getUsername(), boardId, isMember);
-                    return isMember;
-                })
-                .orElseThrow(() -> {
-                    log.warn("Board {} not found when checking access for user {}", boardId, user.getUsername());
-                    return new EntityNotFoundException("Board not found");
-                });
     }
 
+    // Cached per user in "boards" through the audience index, which tracks the boards each list contains
     @Transactional(readOnly = true)
-    @Cacheable(value = "boards", key = "#user.id + '_' + #user.role.name()")
     public List<BoardDto> findBoardsByUser(User user) {
-        log.debug("Finding boards for user: {} (cache miss)", user.getUsername());
-
-        List<Board> boards;
-        if (user.getRole() == User.Role.ADMIN) {
-            // Admins can see all boards
-            boards = boardRepository.findAll();
-        } else {
-            // Get boards where user is owner
-            List<Board> ownedBoards = boardRepository.findByOwner(user);
-
-            // Get boards where user is a member
-            List<BoardMember> memberships = boardMemberRepository.findByUser(user);
-            List<Board> memberBoards = memberships.stream()
-                    .map(BoardMember::getBoard)
-                    .toList();
+        return boardAudienceIndex.getOrLoad("boards", user, () -> {
+            log.debug("Finding all boards for user: {} (cache miss)", user.getUsername());
+            return findBoards(user, Pageable.unpaged(BOARD_ORDER)).stream()
+                    .map(boardMapper::toDto)
+                    .collect(Collectors.toList());
+        }, boards -> boards.stream().map(BoardDto::getId).toList());
+    }
 
-            // Combine and deduplicate
-            boards = new ArrayList<>(new HashSet<>(ownedBoards));
+    @Transactional(readOnly = true)
+    public List<BoardDto> findBoardsByUser(User user, int page, int size) {
+        log.debug("Finding boards for user: {} page {} size {}", user.getUsername(), page, size);
 
-            memberBoards.forEach(board -> {
-                if (!boards.contains(board)) {
-                    boards.add(board);
-                }
-            });
+        if (page < 0) {
+            throw new IllegalArgumentException("Page must not be negative");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
         }
-        return boards.stream()
+
+        // Pages are not cached, so they need no audience entry
+        return findBoards(user, PageRequest.of(page, size, BOARD_ORDER)).stream()
                 .map(boardMapper::toDto)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public List<BoardSummaryDto> findBoardSummariesByUser(User user) {
+        return boardAudienceIndex.getOrLoad("boardSummaries", user, () -> {
+            log.debug("Finding board summaries for user: {} (cache miss)", user.getUsername());
+            if (user.getRole() == User.Role.ADMIN) {
+                // Admins can see all boards
+                return boardRepository.findAllSummaries();
+            }
+            return boardRepository.findSummariesAccessibleBy(user.getId());
+        }, summaries -> summaries.stream().map(BoardSummaryDto::getId).toList());
+    }
+
     @Transactional
-    @Caching(evict = {
-        @CacheEvict(value = "boards", allEntries = true),
-        @CacheEvict(value = "board", key = "#boardId"),
-        @CacheEvict(value = "tasks", key = "'board:' + #boardId")
-    })
     public void deleteBoard(Integer boardId, User user) {
         log.debug("Deleting board with ID: {} for user: {} and invalidating cache", boardId, user.getUsername());
-        boardRepository.deleteById(boardId);
+        // Soft delete only; tasks and members are removed in bounded chunks by BoardPurgeService
+        if (boardRepository.markDeleted(boardId, LocalDateTime.now()) == 0) {
+            throw new EntityNotFoundException("Board not found");
+        }
+        // After commit, so a concurrent read cannot re-cache the board as still active
+        afterCommit(() -> {
+            Objects.requireNonNull(cacheManager.getCache("board")).evict(boardId);
+            boardTaskCache.evict(boardId);
+            boardAudienceIndex.evictBoard(boardId);
+        });
+        boardPermissionResolver.invalidateBoard(boardId);
     }
 
     @Transactional(readOnly = true)
-    @Cacheable(value = "board", key = "#boardId")
+    @Cacheable(value = "board", key = "#boardId", sync = true)
     public Optional<BoardDto> findById(Integer boardId) {
         log.debug("Finding board by ID: {} (cache miss)", boardId);
-        return boardRepository.findById(boardId)
+        return boardRepository.findActiveById(boardId)
                 .map(boardMapper::toDto);
     }
-}
\ No newline at end of file
+
+    private List<Board> findBoards(User user, Pageable pageable) {
+        if (user.getRole() == User.Role.ADMIN) {
+            // Admins can see all boards
+            return boardRepository.findAllByDeletedFalse(pageable);
+        }
+        return boardRepository.findAccessibleBy(user.getId(), pageable);
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.board.manager.service;
+
+import com.board.manager.dto.BoardTaskStatsDto;
+import com.board.manager.model.BoardTaskStats;
+import com.board.manager.model.Task;
+import com.board.manager.repository.BoardRepository;
+import com.board.manager.repository.BoardTaskStatsRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Maintains the board_task_stats counters in the caller's transaction, so the counts commit or
+ * roll back together with the task write. Each write picks a random stripe row and applies a
+ * relative UPDATE, which keeps concurrent writers on one board off a single hot row. The stripe
+ * rows are created together with the board; boards from before the table get theirs from the
+ * startup backfill or from their first task write, whichever comes first. Both take a lock on
+ * the board row, so nodes backfilling at the same time never insert the same rows twice.
+ */
+@Slf4j
+@Service
+public class BoardTaskStatsService implements ApplicationRunner {
+
+    static final int STRIPES = 8;
+
+    private final BoardTaskStatsRepository statsRepository;
+    private final BoardRepository boardRepository;
+    private final TransactionTemplate newTransaction;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public BoardTaskStatsService(BoardTaskStatsRepository statsRepository, BoardRepository boardRepository,
+                                 PlatformTransactionManager transactionManager) {
+        this.statsRepository = statsRepository;
+        this.boardRepository = boardRepository;
+        this.newTransaction = new TransactionTemplate(transactionManager);
+        this.newTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Record a task moving from one status to another; a null {@code from} means the task was
+     * created and a null {@code to} means it was deleted.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordChange(Integer boardId, Task.Status from, Task.Status to) {
+        if (from == to) {
+            return;
+        }
+        Map<Task.Status, Long> deltas = new EnumMap<>(Task.Status.class);
+        if (from != null) {
+            deltas.merge(from, -1L, Long::sum);
+        }
+        if (to != null) {
+            deltas.merge(to, 1L, Long::sum);
+        }
+        recordChanges(boardId, deltas);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordChanges(Integer boardId, Map<Task.Status, Long> deltas) {
+        long todo = deltas.getOrDefault(Task.Status.TODO, 0L);
+        long inProgress = deltas.getOrDefault(Task.Status.IN_PROGRESS, 0L);
+        long done = deltas.getOrDefault(Task.Status.DONE, 0L);
+        if (todo == 0 && inProgress == 0 && done == 0) {
+            return;
+        }
+
+        int stripe = ThreadLocalRandom.current().nextInt(STRIPES);
+        if (statsRepository.increment(boardId, stripe, todo, inProgress, done) == 0) {
+            createMissingStripe(boardId, stripe, todo, inProgress, done);
+        }
+    }
+
+    // Only boards from before the counters existed get here, until they are backfilled
+    private void createMissingStripe(Integer boardId, int stripe, long todo, long inProgress, long done) {
+        lockBoard(boardId);
+        if (!statsRepository.existsByBoardId(boardId)) {
+            // Counted after this transaction's task writes, so the deltas are already included
+            backfill(boardId);
+            return;
+        }
+        // Another writer may have backfilled the board while this one waited for the lock
+        if (statsRepository.increment(boardId, stripe, todo, inProgress, done) == 0) {
+            BoardTaskStats stats = new BoardTaskStats(boardId, stripe);
+            stats.setTodoCount(todo);
+            stats.setInProgressCount(inProgress);
+            stats.setDoneCount(done);
+            entityManager.persist(stats);
+        }
+    }
+
+    /**
+     * Create a new board's stripe rows in the transaction that creates the board, so no task write
+     * ever has to insert them.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void initializeBoard(Integer boardId) {
+        for (int stripe = 0; stripe < STRIPES; stripe++) {
+            entityManager.persist(new BoardTaskStats(boardId, stripe));
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public BoardTaskStatsDto getStats(Integer boardId) {
+        return statsRepository.findTotalsByBoardId(boardId)
+                .orElseGet(() -> new BoardTaskStatsDto(boardId, 0L, 0L, 0L));
+    }
+
+    /**
+     * Backfill counters for boards that have no stripe rows, e.g. boards created before the
+     * table existed. Each board is backfilled in its own short transaction under the board lock,
+     * so other nodes and task writes on the board wait for it and then see its rows.
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        List<Integer> boardIds = statsRepository.findBoardIdsWithoutStats();
+        int backfilled = 0;
+        for (Integer boardId : boardIds) {
+            Boolean created = newTransaction.execute(status -> {
+                if (boardRepository.lockById(boardId).isEmpty() || statsRepository.existsByBoardId(boardId)) {
+                    return false;
+                }
+                backfill(boardId);
+                return true;
+            });
+            if (Boolean.TRUE.equals(created)) {
+                backfilled++;
+            }
+        }
+        if (backfilled > 0) {
+            log.info("Backfilled task counters for {} boards", backfilled);
+        }
+    }
+
+    private void lockBoard(Integer boardId) {
+        if (boardRepository.lockById(boardId).isEmpty()) {
+            throw new IllegalStateException("Board " + boardId + " not found while creating its task counters");
+        }
+    }
+
+    // Caller holds the board lock and has checked that the board has no stripe rows
+    private void backfill(Integer boardId) {
+        BoardTaskStats first = new BoardTaskStats(boardId, 0);
+        for (Object[] row : statsRepository.countTasksByStatus(boardId)) {
+            long count = (Long) row[1];
+            switch ((Task.Status) row[0]) {
+                case TODO -> first.setTodoCount(count);
+                case IN_PROGRESS -> first.setInProgressCount(count);
+                case DONE -> first.setDoneCount(count);
+            }
+        }
+        entityManager.persist(first);
+        for (int stripe = 1; stripe < STRIPES; stripe++) {
+            entityManager.persist(new BoardTaskStats(boardId, stripe));
+        }
+    }
+}
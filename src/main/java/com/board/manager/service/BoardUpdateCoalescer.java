@@ -0,0 +1,315 @@
+package com.board.manager.service;
+
+import com.board.manager.dto.BoardUpdateDto;
+import com.board.manager.dto.BroadcastStatsDto;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.user.SimpSubscription;
+import org.springframework.messaging.simp.user.SimpUserRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Buffers board topic updates for a short window and sends them as one frame per board.
+ * Updates to the same task within a window collapse into its latest state; a task created and deleted in the
+ * same window is never sent. A window with a single update is sent as that update, anything more as a BATCH frame.
+ * Windows are timed on one scheduler thread and the frames are encoded and sent on a small pool of sender threads.
+ * A board always maps to the same sender, so its frames keep their submission order, and a slow board only holds
+ * up the boards sharing its sender.
+ * Every frame goes to the board topic in full form and to its /delta topic, where task updates carry only the
+ * changed fields. With the relay the /delta frame is always published, since subscribers on other nodes are only
+ * known once the registry broadcast arrives and the broker drops frames nobody listens to. With the simple broker
+ * every subscriber is local, so the /delta frame is only sent to boards that have one.
+ */
+@Slf4j
+@Component
+public class BoardUpdateCoalescer {
+
+    private static final String BOARD_TOPIC_PREFIX = "/topic/board/";
+    private static final String DELTA_SUFFIX = "/delta";
+    private static final Pattern DELTA_TOPIC_PATTERN = Pattern.compile("/topic/board/(\\d+)/delta");
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final BoardUpdateEncoder encoder;
+    private final SimpUserRegistry userRegistry;
+    private final boolean relayEnabled;
+    private final long windowMs;
+    private final int maxBatchSize;
+    private final ScheduledExecutorService scheduler;
+    private final ExecutorService[] senders;
+    private final Map<Integer, PendingUpdates> pending = new ConcurrentHashMap<>();
+
+    private final LongAdder updatesSubmitted = new LongAdder();
+    private final LongAdder updatesCollapsed = new LongAdder();
+    private final LongAdder framesSent = new LongAdder();
+    private final LongAdder currentSecondSends = new LongAdder();
+    // Frames per board in the current second; every subscriber of a board receives each of its frames once,
+    // whichever of the two topics it is on
+    private final Map<Integer, LongAdder> currentSecondFrames = new ConcurrentHashMap<>();
+    // Boards with at least one /delta subscriber under the simple broker; replaced by each refresh, added to by
+    // new subscriptions
+    private volatile Set<Integer> deltaBoards = ConcurrentHashMap.newKeySet();
+    private volatile long peakBoardFramesPerSecond;
+    private volatile long lastSecondFrames;
+
+    public BoardUpdateCoalescer(SimpMessagingTemplate messagingTemplate,
+                                BoardUpdateEncoder encoder,
+                                SimpUserRegistry userRegistry,
+                                @Value("${websocket.broker.relay.enabled:false}") boolean relayEnabled,
+                                @Value("${websocket.broadcast.coalesce-window-ms:50}") long windowMs,
+                                @Value("${websocket.broadcast.max-batch-size:200}") int maxBatchSize,
+                                @Value("${websocket.broadcast.sender-threads:4}") int senderThreads) {
+        this.messagingTemplate = messagingTemplate;
+        this.encoder = encoder;
+        this.userRegistry = userRegistry;
+        this.relayEnabled = relayEnabled;
+        this.windowMs = windowMs;
+        this.maxBatchSize = maxBatchSize;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "board-update-coalescer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.senders = new ExecutorService[Math.max(1, senderThreads)];
+        for (int i = 0; i < senders.length; i++) {
+            String name = "board-update-sender-" + i;
+            senders[i] = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, name);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        scheduler.scheduleAtFixedRate(this::rollFrameRate, 1, 1, TimeUnit.SECONDS);
+        if (!relayEnabled) {
+            scheduler.scheduleAtFixedRate(this::refreshDeltaBoards, 1, 1, TimeUnit.SECONDS);
+        }
+    }
+
+    // New subscribers count at once instead of at the next refresh
+    @EventListener
+    public void handleSessionSubscribe(SessionSubscribeEvent event) {
+        if (relayEnabled) {
+            return;
+        }
+        Integer boardId = deltaBoardId(SimpMessageHeaderAccessor.getDestination(event.getMessage().getHeaders()));
+        if (boardId != null) {
+            deltaBoards.add(boardId);
+        }
+    }
+
+    /**
+     * Queues an update for the board's topic; with a window of 0 it is sent immediately.
+     */
+    public void submit(Integer boardId, BoardUpdateDto update) {
+        updatesSubmitted.increment();
+        if (windowMs <= 0) {
+            send(boardId, List.of(update));
+            return;
+        }
+
+        while (true) {
+            PendingUpdates batch = pending.computeIfAbsent(boardId, id -> new PendingUpdates());
+            synchronized (batch) {
+                if (batch.closed) {
+                    // Flushed between lookup and lock; the next lookup creates a fresh batch
+                    continue;
+                }
+                if (!batch.scheduled) {
+                    batch.scheduled = true;
+                    scheduler.schedule(() -> flush(boardId, batch), windowMs, TimeUnit.MILLISECONDS);
+                }
+                batch.add(update);
+                if (batch.size() >= maxBatchSize) {
+                    close(boardId, batch);
+                }
+            }
+            return;
+        }
+    }
+
+    public BroadcastStatsDto stats() {
+        return new BroadcastStatsDto(
+                updatesSubmitted.sum(),
+                updatesCollapsed.sum(),
+                framesSent.sum(),
+                lastSecondFrames,
+                peakBoardFramesPerSecond);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        pending.forEach(this::flush);
+        for (ExecutorService sender : senders) {
+            sender.shutdown();
+        }
+        try {
+            for (ExecutorService sender : senders) {
+                sender.awaitTermination(1, TimeUnit.SECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void flush(Integer boardId, PendingUpdates batch) {
+        synchronized (batch) {
+            if (!batch.closed) {
+                close(boardId, batch);
+            }
+        }
+    }
+
+    // Caller holds the batch lock. The frame is queued before the batch leaves the pending map, so a later batch
+    // for the board is always queued behind it.
+    private void close(Integer boardId, PendingUpdates batch) {
+        batch.closed = true;
+        updatesCollapsed.add(batch.collapsed);
+        List<BoardUpdateDto> ready = new ArrayList<>(batch.updates.values());
+        senderFor(boardId).execute(() -> send(boardId, ready));
+        pending.remove(boardId, batch);
+    }
+
+    private ExecutorService senderFor(Integer boardId) {
+        return senders[Math.floorMod(boardId.hashCode(), senders.length)];
+    }
+
+    private void send(Integer boardId, List<BoardUpdateDto> updates) {
+        if (updates.isEmpty()) {
+            return;
+        }
+        BoardUpdateDto frame = updates.size() == 1
+                ? updates.get(0)
+                : BoardUpdateDto.builder()
+                        .type(BoardUpdateDto.UpdateType.BATCH)
+                        .boardId(boardId)
+                        .updates(updates)
+                        .message(updates.size() + " changes")
+                        .timestamp(LocalDateTime.now())
+                        .build();
+        try {
+            String topic = BOARD_TOPIC_PREFIX + boardId;
+            byte[] full = encoder.encode(frame, false);
+            messagingTemplate.send(topic, encoder.toMessage(full));
+            framesSent.increment();
+            currentSecondSends.increment();
+            if (relayEnabled || deltaBoards.contains(boardId)) {
+                byte[] delta = BoardUpdateEncoder.hasDelta(frame) ? encoder.encode(frame, true) : full;
+                messagingTemplate.send(topic + DELTA_SUFFIX, encoder.toMessage(delta));
+                framesSent.increment();
+                currentSecondSends.increment();
+            }
+            currentSecondFrames.computeIfAbsent(boardId, id -> new LongAdder()).increment();
+        } catch (Exception e) {
+            log.warn("Failed to broadcast {} updates on board {}: {}", updates.size(), boardId, e.getMessage());
+        }
+    }
+
+    private void rollFrameRate() {
+        long peak = 0;
+        for (Map.Entry<Integer, LongAdder> entry : currentSecondFrames.entrySet()) {
+            long frames = entry.getValue().sumThenReset();
+            if (frames == 0) {
+                currentSecondFrames.remove(entry.getKey(), entry.getValue());
+            }
+            peak = Math.max(peak, frames);
+        }
+        lastSecondFrames = currentSecondSends.sumThenReset();
+        peakBoardFramesPerSecond = peak;
+    }
+
+    private void refreshDeltaBoards() {
+        try {
+            Set<Integer> boards = ConcurrentHashMap.newKeySet();
+            for (SimpSubscription subscription : userRegistry.findSubscriptions(
+                    candidate -> deltaBoardId(candidate.getDestination()) != null)) {
+                boards.add(deltaBoardId(subscription.getDestination()));
+            }
+            deltaBoards = boards;
+        } catch (Exception e) {
+            // Keep sending to the boards known so far
+            log.warn("Failed to refresh delta subscriptions: {}", e.getMessage());
+        }
+    }
+
+    private static Integer deltaBoardId(String destination) {
+        if (destination == null) {
+            return null;
+        }
+        Matcher matcher = DELTA_TOPIC_PATTERN.matcher(destination);
+        return matcher.matches() ? Integer.valueOf(matcher.group(1)) : null;
+    }
+
+    private static final class PendingUpdates {
+        // Keyed by task id; updates without a task get a key of their own
+        private final Map<Object, BoardUpdateDto> updates = new LinkedHashMap<>();
+        private int collapsed;
+        private boolean scheduled;
+        private boolean closed;
+
+        void add(BoardUpdateDto update) {
+            if (update.getType() == BoardUpdateDto.UpdateType.BATCH && update.getUpdates() != null) {
+                update.getUpdates().forEach(this::add);
+                return;
+            }
+            if (update.getTaskId() == null) {
+                updates.put(new Object(), update);
+                return;
+            }
+
+            BoardUpdateDto previous = updates.get(update.getTaskId());
+            if (previous == null) {
+                updates.put(update.getTaskId(), update);
+                return;
+            }
+
+            collapsed++;
+            if (previous.getType() == BoardUpdateDto.UpdateType.TASK_CREATED) {
+                if (update.getType() == BoardUpdateDto.UpdateType.TASK_DELETED) {
+                    // Subscribers never saw the task
+                    updates.remove(update.getTaskId());
+                    collapsed++;
+                    return;
+                }
+                // Still a creation as far as subscribers are concerned, with the latest state
+                update = update.toBuilder().type(BoardUpdateDto.UpdateType.TASK_CREATED).changes(null).build();
+            } else if (previous.getChanges() != null && update.getChanges() != null) {
+                Map<String, Object> changes = new LinkedHashMap<>(previous.getChanges());
+                changes.putAll(update.getChanges());
+                update = update.toBuilder().changes(changes).build();
+            } else if (update.getChanges() != null) {
+                // The earlier update had no delta, so delta subscribers need the full state
+                update = update.toBuilder().changes(null).build();
+            }
+            updates.put(update.getTaskId(), update);
+        }
+
+        int size() {
+            return updates.size();
+        }
+    }
+}
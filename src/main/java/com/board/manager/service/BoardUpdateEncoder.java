@@ -0,0 +1,171 @@
+package com.board.manager.service;
+
+import com.board.manager.dto.BoardUpdateDto;
+import com.board.manager.dto.TaskDto;
+import com.board.manager.dto.UserSummaryDto;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+
+/**
+ * Writes board updates straight to JSON bytes with a streaming generator, so a broadcast is encoded once
+ * without reflection and the broker fans out the same payload to every subscriber.
+ * The output matches what the message converter's ObjectMapper produced: same field names, nulls included,
+ * ISO-8601 timestamps. In delta form, updates that carry changes omit taskData and send the changed fields instead.
+ */
+@Component
+public class BoardUpdateEncoder {
+
+    private static final int INITIAL_BUFFER_SIZE = 1024;
+    // Buffers larger than this are not kept for reuse, so one large batch does not pin memory per thread
+    private static final int MAX_RETAINED_BUFFER_SIZE = 64 * 1024;
+
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private final ThreadLocal<ByteArrayOutputStream> buffers =
+            ThreadLocal.withInitial(() -> new ByteArrayOutputStream(INITIAL_BUFFER_SIZE));
+
+    /**
+     * Wraps an encoded payload in a message ready for SimpMessagingTemplate.send.
+     */
+    public Message<byte[]> toMessage(byte[] payload) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        // Lets the template set the destination on these headers instead of copying the message
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+    }
+
+    public byte[] encode(BoardUpdateDto update, boolean delta) {
+        ByteArrayOutputStream buffer = buffers.get();
+        buffer.reset();
+        try (JsonGenerator generator = jsonFactory.createGenerator(buffer)) {
+            writeUpdate(generator, update, delta);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode board update", e);
+        }
+        byte[] payload = buffer.toByteArray();
+        if (payload.length > MAX_RETAINED_BUFFER_SIZE) {
+            buffers.remove();
+        }
+        return payload;
+    }
+
+    /**
+     * Whether the delta form of the update differs from the full one.
+     */
+    public static boolean hasDelta(BoardUpdateDto update) {
+        if (update.getChanges() != null) {
+            return true;
+        }
+        return update.getUpdates() != null && update.getUpdates().stream().anyMatch(BoardUpdateEncoder::hasDelta);
+    }
+
+    private void writeUpdate(JsonGenerator generator, BoardUpdateDto update, boolean delta) throws IOException {
+        boolean asDelta = delta && update.getChanges() != null;
+        generator.writeStartObject();
+        writeString(generator, "type", update.getType() != null ? update.getType().name() : null);
+        writeNumber(generator, "boardId", update.getBoardId());
+        writeString(generator, "taskId", update.getTaskId() != null ? update.getTaskId().toString() : null);
+        generator.writeFieldName("taskData");
+        writeTask(generator, asDelta ? null : update.getTaskData());
+        generator.writeFieldName("changes");
+        if (asDelta) {
+            writeChanges(generator, update.getChanges());
+        } else {
+            generator.writeNull();
+        }
+        writeNumber(generator, "version", update.getVersion());
+        writeNumber(generator, "userId", update.getUserId());
+        writeString(generator, "username", update.getUsername());
+        writeString(generator, "message", update.getMessage());
+        writeString(generator, "timestamp", update.getTimestamp() != null
+                ? DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(update.getTimestamp())
+                : null);
+        generator.writeFieldName("updates");
+        if (update.getUpdates() == null) {
+            generator.writeNull();
+        } else {
+            generator.writeStartArray();
+            for (BoardUpdateDto nested : update.getUpdates()) {
+                writeUpdate(generator, nested, delta);
+            }
+            generator.writeEndArray();
+        }
+        generator.writeEndObject();
+    }
+
+    private void writeTask(JsonGenerator generator, TaskDto task) throws IOException {
+        if (task == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        writeString(generator, "id", task.getId() != null ? task.getId().toString() : null);
+        writeString(generator, "title", task.getTitle());
+        writeNumber(generator, "boardId", task.getBoardId());
+        writeString(generator, "description", task.getDescription());
+        generator.writeFieldName("owner");
+        writeUser(generator, task.getOwner());
+        generator.writeFieldName("assignedTo");
+        writeUser(generator, task.getAssignedTo());
+        writeString(generator, "status", task.getStatus());
+        writeNumber(generator, "version", task.getVersion());
+        generator.writeEndObject();
+    }
+
+    private void writeChanges(JsonGenerator generator, Map<String, Object> changes) throws IOException {
+        generator.writeStartObject();
+        for (Map.Entry<String, Object> change : changes.entrySet()) {
+            generator.writeFieldName(change.getKey());
+            Object value = change.getValue();
+            if (value == null) {
+                generator.writeNull();
+            } else if (value instanceof UserSummaryDto user) {
+                writeUser(generator, user);
+            } else if (value instanceof Number number) {
+                generator.writeNumber(number.longValue());
+            } else {
+                generator.writeString(value.toString());
+            }
+        }
+        generator.writeEndObject();
+    }
+
+    private void writeUser(JsonGenerator generator, UserSummaryDto user) throws IOException {
+        if (user == null) {
+            generator.writeNull();
+            return;
+        }
+        generator.writeStartObject();
+        writeNumber(generator, "id", user.getId());
+        writeString(generator, "username", user.getUsername());
+        generator.writeEndObject();
+    }
+
+    private static void writeString(JsonGenerator generator, String field, String value) throws IOException {
+        if (value == null) {
+            generator.writeNullField(field);
+        } else {
+            generator.writeStringField(field, value);
+        }
+    }
+
+    private static void writeNumber(JsonGenerator generator, String field, Number value) throws IOException {
+        if (value == null) {
+            generator.writeNullField(field);
+        } else {
+            generator.writeNumberField(field, value.longValue());
+        }
+    }
+}
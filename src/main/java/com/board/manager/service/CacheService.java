@@ -1,9 +1,16 @@
 package com.board.manager.service;
 
+import com.board.manager.cache.BoardAudienceIndex;
+import com.board.manager.cache.TwoTierCacheManager;
+import com.board.manager.dto.CacheInvalidationStatsDto;
+import com.board.manager.dto.CacheStatsDto;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.List;
 import java.util.Objects;
 
 @Slf4j
@@ -11,46 +18,48 @@ import java.util.Objects;
 public class CacheService {
 
     private final CacheManager cacheManager;
+    private final BoardAudienceIndex boardAudienceIndex;
 
-    public CacheService(CacheManager cacheManager) {
+    public CacheService(CacheManager cacheManager, BoardAudienceIndex boardAudienceIndex) {
         this.cacheManager = cacheManager;
+        this.boardAudienceIndex = boardAudienceIndex;
     }
 
-    public void evictBoardCache(Integer boardId) {
-        log.debug("Evicting cache for board: {}", boardId);
-        
-        // Evict specific board cache
-        Objects.requireNonNull(cacheManager.getCache("board")).evict(boardId);
-        
-        // Evict boards list cache (since it might contain this board)
-        Objects.requireNonNull(cacheManager.getCache("boards")).clear();
-        
-        // Evict tasks cache for this board
-        Objects.requireNonNull(cacheManager.getCache("tasks")).evict("board:" + boardId);
+    /**
+     * Evicts the caches that embed a board's tasks once the surrounding transaction commits, so a concurrent
+     * reader cannot repopulate them with the pre-commit state.
+     */
+    public void evictTaskCache(Integer boardId) {
+        log.debug("Evicting task cache for board: {}", boardId);
+
+        // The task list itself is written through by TaskServiceImpl; evict the caches that embed tasks
+        afterCommit(() -> {
+            Objects.requireNonNull(cacheManager.getCache("board")).evict(boardId);
+            boardAudienceIndex.evictBoard(boardId);
+        });
     }
 
-    public void evictBoardsCache() {
-        log.debug("Evicting all boards cache");
-        Objects.requireNonNull(cacheManager.getCache("boards")).clear();
+    public List<CacheStatsDto> getCacheStats() {
+        if (cacheManager instanceof TwoTierCacheManager twoTierCacheManager) {
+            return twoTierCacheManager.getStats();
+        }
+        return List.of();
     }
 
-    public void evictTaskCache(Integer boardId) {
-        log.debug("Evicting task cache for board: {}", boardId);
-        
-        // Evict tasks cache for this board
-        Objects.requireNonNull(cacheManager.getCache("tasks")).evict("board:" + boardId);
-        
-        // Also evict the board cache since it contains tasks
-        Objects.requireNonNull(cacheManager.getCache("board")).evict(boardId);
-        Objects.requireNonNull(cacheManager.getCache("boards")).clear();
+    public CacheInvalidationStatsDto getInvalidationStats() {
+        return boardAudienceIndex.stats();
     }
 
-    public void evictUserRelatedCaches(Integer userId) {
-        log.debug("Evicting user-related caches for user: {}", userId);
-        
-        // Clear all boards cache since user permissions might have changed
-        Objects.requireNonNull(cacheManager.getCache("boards")).clear();
-        Objects.requireNonNull(cacheManager.getCache("board")).clear();
-        Objects.requireNonNull(cacheManager.getCache("tasks")).clear();
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
     }
 }
@@ -0,0 +1,75 @@
+package com.board.manager.service;
+
+import com.board.manager.cache.BoardAccessTracker;
+import com.board.manager.cache.BoardTaskCache;
+import com.board.manager.mapper.TaskMapper;
+import com.board.manager.repository.TaskRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Optionally preloads the caches of the most-read boards at startup. Application runners finish before
+ * Spring Boot reports the application as ready, so a node only takes traffic once it is warm.
+ * Task lists are loaded straight into the cache, so warming a board does not count as a read of it.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CacheWarmupService implements ApplicationRunner {
+
+    private final BoardAccessTracker boardAccessTracker;
+    private final BoardService boardService;
+    private final BoardTaskCache boardTaskCache;
+    private final TaskRepository taskRepository;
+    private final TaskMapper taskMapper;
+
+    @Value("${app.cache.warmup.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.cache.warmup.boards:50}")
+    private int boardCount;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled || boardCount < 1) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        List<Integer> boardIds;
+        try {
+            boardIds = boardAccessTracker.topBoards(boardCount);
+        } catch (Exception e) {
+            log.warn("Skipping cache warm-up, board access counts unavailable: {}", e.getMessage());
+            return;
+        }
+
+        int warmed = 0;
+        for (Integer boardId : boardIds) {
+            try {
+                if (boardService.findById(boardId).isEmpty()) {
+                    boardAccessTracker.forget(boardId);
+                    continue;
+                }
+                boardTaskCache.getOrLoad(boardId, () -> taskRepository.findAllWithUsersByBoardId(boardId)
+                        .stream()
+                        .map(taskMapper::toDto)
+                        .collect(Collectors.toList()));
+                warmed++;
+            } catch (EntityNotFoundException e) {
+                boardAccessTracker.forget(boardId);
+            } catch (Exception e) {
+                log.warn("Cache warm-up failed for board {}: {}", boardId, e.getMessage());
+            }
+        }
+        log.info("Warmed caches for {} of {} most-read boards in {} ms",
+                warmed, boardIds.size(), System.currentTimeMillis() - start);
+    }
+}
@@ -1,17 +1,27 @@
 package com.board.manager.service;
 
+import com.board.manager.model.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import org.springframework.stereotype.Service;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 import org.springframework.beans.factory.annotation.Value;
@@ -19,11 +29,56 @@ import org.springframework.security.core.userdetails.UserDetails;
 
 @Service
 public class JwtServiceImpl implements JwtService {
-    @Value("${jwt.secret}")
-    private String secretKey;
 
-    @Value("${jwt.expiration}")
-    private long jwtExpiration;
+    // Identity claims that let stateless mode authenticate without loading the user
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String ROLE_CLAIM = "role";
+    public static final String TOKEN_VERSION_CLAIM = "tv";
+
+    private final long jwtExpiration;
+    private final boolean statelessTokens;
+    private final TokenVersionService tokenVersionService;
+
+    // Built once; the decoded key and the parser are immutable and thread-safe
+    private final Key signInKey;
+    private final JwtParser parser;
+
+    // Claims of tokens whose signature was already verified, keyed by token digest and dropped at the token's exp
+    private final Cache<String, Claims> verifiedClaims;
+
+    public JwtServiceImpl(@Value("${jwt.secret}") String secretKey,
+                          @Value("${jwt.expiration}") long jwtExpiration,
+                          @Value("${jwt.claims-cache.maximum-size:10000}") long claimsCacheSize,
+                          @Value("${app.security.stateless.enabled:false}") boolean statelessTokens,
+                          TokenVersionService tokenVersionService) {
+        this.jwtExpiration = jwtExpiration;
+        this.statelessTokens = statelessTokens;
+        this.tokenVersionService = tokenVersionService;
+        this.signInKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        this.parser = Jwts.parserBuilder()
+                .setSigningKey(signInKey)
+                .build();
+        this.verifiedClaims = Caffeine.newBuilder()
+                .maximumSize(claimsCacheSize)
+                .expireAfter(new Expiry<String, Claims>() {
+                    @Override
+                    public long expireAfterCreate(String key, Claims claims, long currentTime) {
+                        long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
 
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
@@ -39,6 +94,12 @@ public class JwtServiceImpl implements JwtService {
     }
 
     public String generateToken(Map<String, Object> extraClaims, UserDetails userDetails) {
+        if (statelessTokens && userDetails instanceof User user) {
+            extraClaims = new HashMap<>(extraClaims);
+            extraClaims.put(USER_ID_CLAIM, user.getId());
+            extraClaims.put(ROLE_CLAIM, user.getRole().name());
+            extraClaims.put(TOKEN_VERSION_CLAIM, tokenVersionService.currentVersion(user.getId()));
+        }
         return buildToken(extraClaims, userDetails, jwtExpiration);
     }
 
@@ -57,34 +118,35 @@ public class JwtServiceImpl implements JwtService {
                 .setSubject(userDetails.getUsername())
                 .setIssuedAt(new Date(System.currentTimeMillis()))
                 .setExpiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSignInKey(), SignatureAlgorithm.HS256)
+                .signWith(signInKey, SignatureAlgorithm.HS256)
                 .compact();
     }
 
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
-    }
-
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+        // One parse for both checks; usually a cache hit after extractUsername
+        final Claims claims = extractAllClaims(token);
+        return claims.getSubject().equals(userDetails.getUsername()) && !claims.getExpiration().before(new Date());
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts
-                .parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        String digest = digest(token);
+        Claims claims = verifiedClaims.getIfPresent(digest);
+        if (claims == null) {
+            // Throws for bad signatures and expired tokens, so only verified, live claims are cached
+            claims = parser.parseClaimsJws(token).getBody();
+            if (claims.getExpiration() != null) {
+                verifiedClaims.put(digest, claims);
+            }
+        }
+        return claims;
     }
 
-    private Key getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,146 @@
+package com.board.manager.service;
+
+import com.board.manager.mapper.TaskMapper;
+import com.board.manager.model.Task;
+import com.board.manager.model.User;
+import com.board.manager.repository.BoardRepository;
+import com.board.manager.repository.TaskRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityNotFoundException;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+/**
+ * Streams every task of a board straight from a database cursor to the HTTP response.
+ * Rows are detached as soon as they are written, so heap use does not grow with board size,
+ * and the task caches are never read or populated.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TaskExportService {
+
+    private static final String CSV_HEADER = "id,title,description,status,ownerId,ownerUsername,assigneeId,assigneeUsername,createdAt,updatedAt";
+
+    private final TaskRepository taskRepository;
+    private final BoardRepository boardRepository;
+    private final TaskMapper taskMapper;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static Format from(String value) {
+            try {
+                return Format.valueOf(value.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Export format must be one of ndjson, csv");
+            }
+        }
+    }
+
+    public StreamingResponseBody exportTasks(Integer boardId, Format format) {
+        // Fail fast before the response is committed
+        if (!boardRepository.existsByIdAndDeletedFalse(boardId)) {
+            throw new EntityNotFoundException("Board not found");
+        }
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+
+        return outputStream -> transactionTemplate.executeWithoutResult(status -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            long rows = 0;
+            try (Stream<Task> tasks = taskRepository.streamAllWithUsersByBoardId(boardId)) {
+                if (format == Format.CSV) {
+                    writer.write(CSV_HEADER);
+                    writer.write('\n');
+                }
+                for (Task task : (Iterable<Task>) tasks::iterator) {
+                    if (format == Format.CSV) {
+                        writeCsvRow(writer, task);
+                    } else {
+                        writer.write(objectMapper.writeValueAsString(taskMapper.toDto(task)));
+                        writer.write('\n');
+                    }
+                    entityManager.detach(task);
+                    rows++;
+                }
+                writer.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            log.debug("Exported {} tasks for board {} as {}", rows, boardId, format);
+        });
+    }
+
+    private void writeCsvRow(Writer writer, Task task) throws IOException {
+        User owner = task.getOwner();
+        User assignee = task.getAssignedTo();
+
+        writer.write(String.valueOf(task.getId()));
+        writer.write(',');
+        writer.write(csv(task.getTitle()));
+        writer.write(',');
+        writer.write(csv(task.getDescription()));
+        writer.write(',');
+        writer.write(task.getStatus().name());
+        writer.write(',');
+        writer.write(owner != null ? String.valueOf(owner.getId()) : "");
+        writer.write(',');
+        writer.write(owner != null ? csv(owner.getUsername()) : "");
+        writer.write(',');
+        writer.write(assignee != null ? String.valueOf(assignee.getId()) : "");
+        writer.write(',');
+        writer.write(assignee != null ? csv(assignee.getUsername()) : "");
+        writer.write(',');
+        writer.write(task.getCreatedAt() != null ? task.getCreatedAt().toString() : "");
+        writer.write(',');
+        writer.write(task.getUpdatedAt() != null ? task.getUpdatedAt().toString() : "");
+        writer.write('\n');
+    }
+
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        boolean needsQuoting = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        return needsQuoting ? '"' + value.replace("\"", "\"\"") + '"' : value;
+    }
+}
@@ -1,7 +1,9 @@
 package com.board.manager.service;
 
 import com.board.manager.dto.TaskDto;
+import com.board.manager.dto.TaskPageDto;
 import com.board.manager.model.User;
+import com.board.manager.request.BatchTaskRequest;
 import com.board.manager.request.CreateTaskRequest;
 import com.board.manager.request.UpdateTaskRequest;
 
@@ -11,8 +13,12 @@ import java.util.UUID;
 public interface TaskService {
     TaskDto createTask(Integer boardId, CreateTaskRequest request, User currentUser);
     List<TaskDto> getTasksByBoardId(Integer boardId);
-    void deleteTask(Integer boardId, UUID taskId, User currentUser);
-    TaskDto updateTask(Integer boardId, UUID taskId, UpdateTaskRequest request, User currentUser);
-    TaskDto assignTask(Integer boardId, UUID taskId, Integer assigneeId, User currentUser);
-    TaskDto updateTaskStatus(Integer boardId, UUID taskId, String status, User currentUser);
+    TaskPageDto getTaskPage(Integer boardId, String cursor, int size, String status, Integer assigneeId, Integer ownerId);
+    // expectedVersion is the client's If-Match version; null skips the precondition check
+    void deleteTask(Integer boardId, UUID taskId, Long expectedVersion, User currentUser);
+    TaskDto updateTask(Integer boardId, UUID taskId, UpdateTaskRequest request, Long expectedVersion, User currentUser);
+    TaskDto assignTask(Integer boardId, UUID taskId, Integer assigneeId, Long expectedVersion, User currentUser);
+    TaskDto updateTaskStatus(Integer boardId, UUID taskId, String status, Long expectedVersion, User currentUser);
+    List<TaskDto> applyBatch(Integer boardId, BatchTaskRequest request, User currentUser);
+    List<TaskDto> searchTasks(Integer boardId, String query, int limit);
 }
\ No newline at end of file
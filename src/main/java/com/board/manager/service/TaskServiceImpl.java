@@ -1,6 +1,11 @@
 package com.board.manager.service;
 
+import com.board.manager.cache.BoardAccessTracker;
+import com.board.manager.cache.BoardTaskCache;
+import com.board.manager.dto.BoardUpdateDto;
 import com.board.manager.dto.TaskDto;
+import com.board.manager.dto.TaskPageDto;
+import com.board.manager.exception.PreconditionFailedException;
 import com.board.manager.mapper.TaskMapper;
 import com.board.manager.model.Board;
 import com.board.manager.model.Task;
@@ -8,22 +13,37 @@ import com.board.manager.model.User;
 import com.board.manager.repository.BoardRepository;
 import com.board.manager.repository.TaskRepository;
 import com.board.manager.repository.UserRepository;
+import com.board.manager.request.BatchTaskOperation;
+import com.board.manager.request.BatchTaskRequest;
 import com.board.manager.request.CreateTaskRequest;
 import com.board.manager.request.UpdateTaskRequest;
 import com.board.manager.service.notification.NotificationService;
+import com.board.manager.service.search.TaskSearchIndex;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -31,6 +51,9 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class TaskServiceImpl implements TaskService {
 
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int MAX_SEARCH_RESULTS = 100;
+
     private final TaskRepository taskRepository;
     private final TaskMapper taskMapper;
     private final BoardRepository boardRepository;
@@ -38,12 +61,14 @@ public class TaskServiceImpl implements TaskService {
     private final UserRepository userRepository;
     private final NotificationService notificationService;
     private final WebSocketService webSocketService;
+    private final BoardTaskStatsService boardTaskStatsService;
+    private final TaskSearchIndex taskSearchIndex;
+    private final BoardTaskCache boardTaskCache;
+    private final BoardAccessTracker boardAccessTracker;
 
     @Override
-    @Caching(evict = {
-            @CacheEvict(value = "tasks", key = "'board:' + #boardId"),
-            @CacheEvict(value = "board", key = "#boardId")
-    })
+    @Transactional
+    @CacheEvict(value = "board", key = "#boardId")
     public TaskDto createTask(Integer boardId, CreateTaskRequest request, @AuthenticationPrincipal User currentUser) {
         Task task = taskMapper.toEntity(request);
         Board board = getBoardOrThrow(boardId);
@@ -56,7 +81,10 @@ public class TaskServiceImpl implements TaskService {
             task.setAssignedTo(user);
         }
         Task saved = taskRepository.save(task);
+        boardTaskStatsService.recordChange(boardId, null, saved.getStatus());
+        taskSearchIndex.index(boardId, saved.getId(), saved.getTitle(), saved.getDescription());
         TaskDto taskDto = taskMapper.toDto(saved);
+        boardTaskCache.put(boardId, taskDto);
 
         // Send notifications
         if (saved.getAssignedTo() != null) {
@@ -64,10 +92,11 @@ public class TaskServiceImpl implements TaskService {
                     saved.getAssignedTo().getId(),
                     "You have been assigned a new task: " + saved.getTitle()
             );
-            // Broadcast task assignment
+            // Broadcast task assignment; a new task has no delta, so every subscriber gets the full task
             webSocketService.broadcastTaskAssigned(
                     boardId,
                     taskDto,
+                    null,
                     currentUser.getUsername(),
                     saved.getAssignedTo().getUsername(),
                     saved.getAssignedTo().getId()
@@ -77,32 +106,77 @@ public class TaskServiceImpl implements TaskService {
             webSocketService.broadcastTaskCreated(boardId, taskDto, currentUser.getUsername());
         }
 
+        // Board summaries embed task counts
+        cacheService.evictTaskCache(boardId);
         log.debug("Created task {} for board {} and invalidated cache", saved.getId(), boardId);
         return taskDto;
     }
 
     @Override
-    @Cacheable(value = "tasks", key = "'board:' + #boardId")
     public List<TaskDto> getTasksByBoardId(Integer boardId) {
-        log.debug("Getting tasks for board {} (cache miss)", boardId);
+        boardAccessTracker.record(boardId);
+        return boardTaskCache.getOrLoad(boardId, () -> {
+            log.debug("Getting tasks for board {} (cache miss)", boardId);
+            getBoardOrThrow(boardId);
+            return taskRepository.findAllWithUsersByBoardId(boardId)
+                    .stream()
+                    .map(taskMapper::toDto)
+                    .collect(Collectors.toList());
+        });
+    }
+
+    @Override
+    public TaskPageDto getTaskPage(Integer boardId, String cursor, int size, String status, Integer assigneeId, Integer ownerId) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
         getBoardOrThrow(boardId);
-        return taskRepository.findByBoardId(boardId)
-                .stream()
+
+        Task.Status statusFilter = status != null && !status.isBlank()
+                ? Task.Status.valueOf(status.trim().toUpperCase())
+                : null;
+
+        LocalDateTime cursorUpdatedAt = null;
+        UUID cursorId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] parts = decodeCursor(cursor);
+            cursorUpdatedAt = LocalDateTime.parse(parts[0]);
+            cursorId = UUID.fromString(parts[1]);
+        }
+
+        // Fetch one extra row to know whether another page exists without a count query
+        List<Task> tasks = taskRepository.findPageByBoardId(boardId, statusFilter, assigneeId, ownerId,
+                cursorUpdatedAt, cursorId, PageRequest.of(0, size + 1));
+
+        boolean hasMore = tasks.size() > size;
+        if (hasMore) {
+            tasks = tasks.subList(0, size);
+        }
+
+        String nextCursor = hasMore ? encodeCursor(tasks.get(tasks.size() - 1)) : null;
+        List<TaskDto> taskDtos = tasks.stream()
                 .map(taskMapper::toDto)
                 .collect(Collectors.toList());
+
+        log.debug("Loaded task page of {} for board {} (hasMore: {})", taskDtos.size(), boardId, hasMore);
+        return new TaskPageDto(taskDtos, nextCursor, hasMore);
     }
 
     @Override
     @Transactional
-    public void deleteTask(Integer boardId, UUID taskId, User currentUser) {
+    public void deleteTask(Integer boardId, UUID taskId, Long expectedVersion, User currentUser) {
         getBoardOrThrow(boardId);
 
         // Get task details before deletion for broadcasting
         Task task = taskRepository.findByIdAndBoardId(taskId, boardId)
                 .orElseThrow(() -> new EntityNotFoundException("Task not found"));
+        checkVersion(task, expectedVersion);
         String taskTitle = task.getTitle();
 
         taskRepository.deleteByIdAndBoardId(taskId, boardId);
+        boardTaskStatsService.recordChange(boardId, task.getStatus(), null);
+        taskSearchIndex.remove(boardId, taskId);
+        boardTaskCache.remove(boardId, taskId);
 
         // Broadcast task deletion
         webSocketService.broadcastTaskDeleted(boardId, taskId, currentUser.getUsername(), taskTitle);
@@ -114,45 +188,45 @@ public class TaskServiceImpl implements TaskService {
 
     @Override
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value = "tasks", key = "'board:' + #boardId"),
-            @CacheEvict(value = "board", key = "#boardId")
-    })
-    public TaskDto updateTask(Integer boardId, UUID taskId, UpdateTaskRequest request, User currentUser) {
+    @CacheEvict(value = "board", key = "#boardId")
+    public TaskDto updateTask(Integer boardId, UUID taskId, UpdateTaskRequest request, Long expectedVersion, User currentUser) {
         getBoardOrThrow(boardId);
 
         Task task = taskRepository.findByIdAndBoardId(taskId, boardId)
                 .orElseThrow(() -> new EntityNotFoundException("Task not found"));
+        checkVersion(task, expectedVersion);
 
-        boolean hasChanges = false;
+        // TaskDto properties touched by this request, sent as the delta to delta subscribers
+        Set<String> changedFields = new LinkedHashSet<>();
         User previousAssignee = task.getAssignedTo();
+        Task.Status previousStatus = task.getStatus();
 
         // Update only provided fields
         if (request.getTitle() != null && !request.getTitle().trim().isEmpty()) {
             task.setTitle(request.getTitle());
-            hasChanges = true;
+            changedFields.add("title");
         }
 
         if (request.getDescription() != null && !request.getDescription().trim().isEmpty()) {
             task.setDescription(request.getDescription());
-            hasChanges = true;
+            changedFields.add("description");
         }
 
         if (request.getStatus() != null && !request.getStatus().trim().isEmpty()) {
             task.setStatus(Task.Status.valueOf(request.getStatus().toUpperCase()));
-            hasChanges = true;
+            changedFields.add("status");
         }
 
         if (request.getAssignedTo() != null) {
             if (request.getAssignedTo() == 0) {
                 // Unassign task
                 task.setAssignedTo(null);
-                hasChanges = true;
+                changedFields.add("assignedTo");
             } else {
                 User assignee = userRepository.findById(request.getAssignedTo())
                         .orElseThrow(() -> new EntityNotFoundException("User not found"));
                 task.setAssignedTo(assignee);
-                hasChanges = true;
+                changedFields.add("assignedTo");
 
                 // Send notification if assignment changed
                 if (previousAssignee == null || !previousAssignee.getId().equals(assignee.getId())) {
@@ -164,13 +238,19 @@ public class TaskServiceImpl implements TaskService {
             }
         }
 
-        if (!hasChanges) {
+        if (changedFields.isEmpty()) {
             log.debug("No changes detected for task {} on board {}", taskId, boardId);
             return taskMapper.toDto(task);
         }
 
-        Task saved = taskRepository.save(task);
+        // Flush so the version check runs now and the returned DTO carries the new version
+        Task saved = taskRepository.saveAndFlush(task);
+        boardTaskStatsService.recordChange(boardId, previousStatus, saved.getStatus());
+        if (request.getTitle() != null || request.getDescription() != null) {
+            taskSearchIndex.index(boardId, saved.getId(), saved.getTitle(), saved.getDescription());
+        }
         TaskDto taskDto = taskMapper.toDto(saved);
+        boardTaskCache.put(boardId, taskDto);
 
         // Broadcast appropriate update type
         if (request.getAssignedTo() != null &&
@@ -181,40 +261,41 @@ public class TaskServiceImpl implements TaskService {
                 webSocketService.broadcastTaskAssigned(
                         boardId,
                         taskDto,
+                        changedFields,
                         currentUser.getUsername(),
                         saved.getAssignedTo().getUsername(),
                         saved.getAssignedTo().getId()
                 );
             } else {
-                webSocketService.broadcastTaskUpdated(boardId, taskDto, currentUser.getUsername());
+                webSocketService.broadcastTaskUpdated(boardId, taskDto, changedFields, currentUser.getUsername());
             }
         } else {
             // Regular update
-            webSocketService.broadcastTaskUpdated(boardId, taskDto, currentUser.getUsername());
+            webSocketService.broadcastTaskUpdated(boardId, taskDto, changedFields, currentUser.getUsername());
         }
 
+        cacheService.evictTaskCache(boardId);
         log.debug("Updated task {} on board {}", taskId, boardId);
         return taskDto;
     }
 
     @Override
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value = "tasks", key = "'board:' + #boardId"),
-            @CacheEvict(value = "board", key = "#boardId")
-    })
-    public TaskDto assignTask(Integer boardId, UUID taskId, Integer assigneeId, User currentUser) {
+    @CacheEvict(value = "board", key = "#boardId")
+    public TaskDto assignTask(Integer boardId, UUID taskId, Integer assigneeId, Long expectedVersion, User currentUser) {
         getBoardOrThrow(boardId);
 
         Task task = taskRepository.findByIdAndBoardId(taskId, boardId)
                 .orElseThrow(() -> new EntityNotFoundException("Task not found"));
+        checkVersion(task, expectedVersion);
 
         User assignee = userRepository.findById(assigneeId)
                 .orElseThrow(() -> new EntityNotFoundException("User not found"));
 
         task.setAssignedTo(assignee);
-        Task saved = taskRepository.save(task);
+        Task saved = taskRepository.saveAndFlush(task);
         TaskDto taskDto = taskMapper.toDto(saved);
+        boardTaskCache.put(boardId, taskDto);
 
         // Send notification and broadcast
         notificationService.sendTaskAssignmentNotification(
@@ -225,40 +306,260 @@ public class TaskServiceImpl implements TaskService {
         webSocketService.broadcastTaskAssigned(
                 boardId,
                 taskDto,
+                Set.of("assignedTo"),
                 currentUser.getUsername(),
                 assignee.getUsername(),
                 assigneeId
         );
 
+        cacheService.evictTaskCache(boardId);
         log.debug("Assigned task {} to user {} on board {}", taskId, assigneeId, boardId);
         return taskDto;
     }
 
     @Override
     @Transactional
-    @Caching(evict = {
-            @CacheEvict(value = "tasks", key = "'board:' + #boardId"),
-            @CacheEvict(value = "board", key = "#boardId")
-    })
-    public TaskDto updateTaskStatus(Integer boardId, UUID taskId, String status, User currentUser) {
+    @CacheEvict(value = "board", key = "#boardId")
+    public TaskDto updateTaskStatus(Integer boardId, UUID taskId, String status, Long expectedVersion, User currentUser) {
         getBoardOrThrow(boardId);
 
         Task task = taskRepository.findByIdAndBoardId(taskId, boardId)
                 .orElseThrow(() -> new EntityNotFoundException("Task not found"));
+        checkVersion(task, expectedVersion);
 
+        Task.Status previousStatus = task.getStatus();
         task.setStatus(Task.Status.valueOf(status.toUpperCase()));
-        Task saved = taskRepository.save(task);
+        Task saved = taskRepository.saveAndFlush(task);
+        boardTaskStatsService.recordChange(boardId, previousStatus, saved.getStatus());
         TaskDto taskDto = taskMapper.toDto(saved);
+        boardTaskCache.put(boardId, taskDto);
 
         // Broadcast status update
-        webSocketService.broadcastTaskUpdated(boardId, taskDto, currentUser.getUsername());
+        webSocketService.broadcastTaskUpdated(boardId, taskDto, Set.of("status"), currentUser.getUsername());
 
+        cacheService.evictTaskCache(boardId);
         log.debug("Updated task {} status to {} on board {}", taskId, status, boardId);
         return taskDto;
     }
 
+    @Override
+    @Transactional
+    @CacheEvict(value = "board", key = "#boardId")
+    public List<TaskDto> applyBatch(Integer boardId, BatchTaskRequest request, User currentUser) {
+        Board board = getBoardOrThrow(boardId);
+        List<BatchTaskOperation> operations = request.getOperations();
+
+        // Resolve every referenced task and assignee up front instead of one lookup per operation
+        Set<UUID> taskIds = operations.stream()
+                .filter(op -> op.getType() != BatchTaskOperation.Type.CREATE)
+                .map(BatchTaskOperation::getTaskId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<UUID, Task> tasksById = taskIds.isEmpty() ? new LinkedHashMap<>() :
+                taskRepository.findAllWithUsersByBoardIdAndIdIn(boardId, taskIds).stream()
+                        .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        Set<Integer> assigneeIds = operations.stream()
+                .map(BatchTaskOperation::getAssignedTo)
+                .filter(id -> id != null && id != 0)
+                .collect(Collectors.toSet());
+        Map<Integer, User> usersById = userRepository.findAllById(assigneeIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        List<Task> results = new ArrayList<>(operations.size());
+        // Last broadcast type per task, in first-touched order; a task created in this batch stays TASK_CREATED.
+        // Identity keys, since entity equals/hashCode change as fields are edited
+        List<Task> touched = new ArrayList<>();
+        Map<Task, BoardUpdateDto.UpdateType> updateTypes = new IdentityHashMap<>();
+        Map<Integer, String> assignmentNotifications = new LinkedHashMap<>();
+        // Status before the batch touched each task, null for tasks created here
+        Map<Task, Task.Status> originalStatuses = new IdentityHashMap<>();
+
+        for (int i = 0; i < operations.size(); i++) {
+            BatchTaskOperation op = operations.get(i);
+            Task task;
+            BoardUpdateDto.UpdateType updateType = BoardUpdateDto.UpdateType.TASK_UPDATED;
+
+            if (op.getType() == BatchTaskOperation.Type.CREATE) {
+                if (isBlank(op.getTitle()) || isBlank(op.getStatus())) {
+                    throw new IllegalArgumentException("Operation " + i + ": CREATE requires title and status");
+                }
+                task = new Task();
+                task.setBoard(board);
+                task.setOwner(currentUser);
+                updateType = BoardUpdateDto.UpdateType.TASK_CREATED;
+            } else {
+                if (op.getTaskId() == null) {
+                    throw new IllegalArgumentException("Operation " + i + ": " + op.getType() + " requires taskId");
+                }
+                task = tasksById.get(op.getTaskId());
+                if (task == null) {
+                    throw new EntityNotFoundException("Operation " + i + ": Task not found");
+                }
+                // Versions only move at flush, so this compares against the version loaded for the batch
+                if (op.getVersion() != null && !op.getVersion().equals(task.getVersion())) {
+                    throw new PreconditionFailedException("Operation " + i + ": Task version " + task.getVersion()
+                            + " does not match expected version " + op.getVersion());
+                }
+                originalStatuses.putIfAbsent(task, task.getStatus());
+            }
+
+            switch (op.getType()) {
+                case CREATE, UPDATE -> {
+                    if (!isBlank(op.getTitle())) {
+                        task.setTitle(op.getTitle());
+                    }
+                    if (!isBlank(op.getDescription())) {
+                        task.setDescription(op.getDescription());
+                    }
+                    if (!isBlank(op.getStatus())) {
+                        task.setStatus(Task.Status.valueOf(op.getStatus().toUpperCase()));
+                    }
+                }
+                case STATUS -> {
+                    if (isBlank(op.getStatus())) {
+                        throw new IllegalArgumentException("Operation " + i + ": STATUS requires status");
+                    }
+                    task.setStatus(Task.Status.valueOf(op.getStatus().toUpperCase()));
+                }
+                case ASSIGN -> {
+                    if (op.getAssignedTo() == null) {
+                        throw new IllegalArgumentException("Operation " + i + ": ASSIGN requires assignedTo");
+                    }
+                }
+            }
+
+            if (op.getAssignedTo() != null) {
+                User previousAssignee = task.getAssignedTo();
+                if (op.getAssignedTo() == 0) {
+                    task.setAssignedTo(null);
+                } else {
+                    User assignee = usersById.get(op.getAssignedTo());
+                    if (assignee == null) {
+                        throw new EntityNotFoundException("Operation " + i + ": User not found");
+                    }
+                    task.setAssignedTo(assignee);
+                    if (previousAssignee == null || !previousAssignee.getId().equals(assignee.getId())) {
+                        assignmentNotifications.put(assignee.getId(), "You have been assigned task: " + task.getTitle());
+                        if (updateType != BoardUpdateDto.UpdateType.TASK_CREATED) {
+                            updateType = BoardUpdateDto.UpdateType.TASK_ASSIGNED;
+                        }
+                    }
+                }
+            }
+
+            BoardUpdateDto.UpdateType previousType = updateTypes.put(task, updateType);
+            if (previousType == null) {
+                touched.add(task);
+            } else if (previousType == BoardUpdateDto.UpdateType.TASK_CREATED) {
+                updateTypes.put(task, BoardUpdateDto.UpdateType.TASK_CREATED);
+            }
+            results.add(task);
+        }
+
+        // One saveAll so Hibernate can group the statements into JDBC batches; the flush bumps versions
+        // before the DTOs are built
+        taskRepository.saveAll(touched);
+        taskRepository.flush();
+
+        Map<Task.Status, Long> statusDeltas = new EnumMap<>(Task.Status.class);
+        for (Task task : touched) {
+            Task.Status original = originalStatuses.get(task);
+            if (original != task.getStatus()) {
+                if (original != null) {
+                    statusDeltas.merge(original, -1L, Long::sum);
+                }
+                statusDeltas.merge(task.getStatus(), 1L, Long::sum);
+            }
+        }
+        boardTaskStatsService.recordChanges(boardId, statusDeltas);
+        touched.forEach(task -> taskSearchIndex.index(boardId, task.getId(), task.getTitle(), task.getDescription()));
+
+        List<BoardUpdateDto> updates = new ArrayList<>(touched.size());
+        List<TaskDto> touchedDtos = new ArrayList<>(touched.size());
+        touched.forEach(task -> {
+            TaskDto taskDto = taskMapper.toDto(task);
+            touchedDtos.add(taskDto);
+            updates.add(BoardUpdateDto.builder()
+                    .type(updateTypes.get(task))
+                    .boardId(boardId)
+                    .taskId(taskDto.getId())
+                    .taskData(taskDto)
+                    .build());
+        });
+        boardTaskCache.putAll(boardId, touchedDtos);
+
+        assignmentNotifications.forEach((userId, message) -> {
+            notificationService.sendTaskAssignmentNotification(userId, message);
+            webSocketService.sendPrivateNotification(userId, message);
+        });
+        webSocketService.broadcastTaskBatch(boardId, updates, currentUser.getUsername());
+
+        cacheService.evictTaskCache(boardId);
+        log.debug("Applied batch of {} operations ({} tasks) on board {}", operations.size(), touched.size(), boardId);
+        return results.stream()
+                .map(taskMapper::toDto)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public List<TaskDto> searchTasks(Integer boardId, String query, int limit) {
+        if (limit < 1 || limit > MAX_SEARCH_RESULTS) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_SEARCH_RESULTS);
+        }
+        getBoardOrThrow(boardId);
+
+        List<UUID> rankedIds = taskSearchIndex.search(boardId, query, limit);
+        if (rankedIds.isEmpty()) {
+            return List.of();
+        }
+
+        // Load the hits in one query, then restore the index's relevance order
+        Map<UUID, Task> tasksById = taskRepository.findAllWithUsersByBoardIdAndIdIn(boardId, rankedIds).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        return rankedIds.stream()
+                .map(tasksById::get)
+                .filter(Objects::nonNull)
+                .map(taskMapper::toDto)
+                .collect(Collectors.toList());
+    }
+
+    static void checkVersion(Task task, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(task.getVersion())) {
+            throw new PreconditionFailedException("Task version " + task.getVersion()
+                    + " does not match expected version " + expectedVersion);
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+
+    private static String encodeCursor(Task task) {
+        // Matches the startup backfill, in case a row without updated_at is read before it ran
+        LocalDateTime updatedAt = task.getUpdatedAt() != null ? task.getUpdatedAt() : task.getCreatedAt();
+        String raw = updatedAt + "|" + task.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            // Validate eagerly so a malformed cursor is reported as a bad request
+            LocalDateTime.parse(parts[0]);
+            UUID.fromString(parts[1]);
+            return parts;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
     private Board getBoardOrThrow(Integer boardId) {
-        return boardRepository.findById(boardId)
+        return boardRepository.findActiveById(boardId)
                 .orElseThrow(() -> new EntityNotFoundException("Board not found"));
     }
 }
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.board.manager.service;
+
+import com.board.manager.repository.TaskRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Gives legacy tasks without updated_at their creation time. The keyset task listing orders and
+ * filters on updated_at, so a null would hide the row and break the page cursor.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskUpdatedAtBackfill implements ApplicationRunner {
+
+    private final TaskRepository taskRepository;
+
+    @Override
+    @Transactional
+    public void run(ApplicationArguments args) {
+        int updated = taskRepository.backfillMissingUpdatedAt();
+        if (updated > 0) {
+            log.info("Backfilled updated_at for {} tasks", updated);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.board.manager.service;
+
+import com.board.manager.cache.CacheInvalidationBus;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Properties;
+
+/**
+ * Per-user token version used to revoke stateless JWTs. Tokens carry the version they were issued with and
+ * stop being accepted once the user's counter moves past it.
+ * The counter lives in Redis and is held in memory per node, refreshed in the background and evicted on
+ * every node over the invalidation bus when it is bumped.
+ *
+ * <p>A lost counter silently un-revokes every token issued before it was bumped, so the Redis instance must
+ * persist data (AOF or RDB) and must not evict these keys. They carry no TTL, so the volatile-* policies and
+ * noeviction are safe; with stateless tokens enabled, startup fails on an allkeys-* policy.
+ */
+@Slf4j
+@Service
+public class TokenVersionService implements ApplicationRunner {
+
+    private static final String REGION = "tokenVersions";
+    private static final String KEY_PREFIX = "auth:token-version:";
+
+    private final StringRedisTemplate redisTemplate;
+    private final CacheInvalidationBus invalidationBus;
+    // A failed refresh keeps the previous value; a failed first load fails the request rather than accepting the token
+    private final LoadingCache<Integer, Long> versions;
+
+    @Value("${app.security.stateless.enabled:false}")
+    private boolean stateless;
+
+    public TokenVersionService(StringRedisTemplate redisTemplate,
+                               CacheInvalidationBus invalidationBus,
+                               @Value("${app.security.stateless.version-cache.maximum-size:100000}") long maximumSize,
+                               @Value("${app.security.stateless.version-cache.refresh-seconds:30}") long refreshSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.invalidationBus = invalidationBus;
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .refreshAfterWrite(Duration.ofSeconds(refreshSeconds))
+                .build(this::loadVersion);
+        invalidationBus.subscribe(REGION, userId -> {
+            if (userId == null) {
+                versions.invalidateAll();
+            } else {
+                versions.invalidate(Integer.valueOf(userId));
+            }
+        });
+    }
+
+    public long currentVersion(Integer userId) {
+        return versions.get(userId);
+    }
+
+    /**
+     * Invalidates every token issued to the user so far, on all nodes. Throws if the counter could not be
+     * bumped; callers revoke before applying the change that requires it, so the change fails with it.
+     */
+    public void revokeTokens(Integer userId) {
+        try {
+            redisTemplate.opsForValue().increment(KEY_PREFIX + userId);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to revoke tokens for user " + userId, e);
+        }
+        versions.invalidate(userId);
+        invalidationBus.publishEvict(REGION, String.valueOf(userId));
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!stateless) {
+            return;
+        }
+        String policy;
+        try {
+            Properties config = redisTemplate.execute((RedisCallback<Properties>) connection ->
+                    connection.serverCommands().getConfig("maxmemory-policy"));
+            policy = config != null ? config.getProperty("maxmemory-policy") : null;
+        } catch (Exception e) {
+            // Managed Redis services often disable CONFIG; the requirement is documented above
+            log.warn("Could not read the Redis maxmemory-policy, make sure it cannot evict token versions: {}",
+                    e.getMessage());
+            return;
+        }
+        if (policy != null && policy.startsWith("allkeys-")) {
+            throw new IllegalStateException("Redis maxmemory-policy " + policy
+                    + " can evict token versions and un-revoke tokens; use noeviction or a volatile-* policy");
+        }
+    }
+
+    private Long loadVersion(Integer userId) {
+        String value = redisTemplate.opsForValue().get(KEY_PREFIX + userId);
+        return value != null ? Long.parseLong(value) : 0L;
+    }
+}
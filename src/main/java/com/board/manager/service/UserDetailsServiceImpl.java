@@ -1,23 +1,61 @@
 package com.board.manager.service;
 
+import com.board.manager.cache.CacheInvalidationBus;
+import com.board.manager.model.User;
 import com.board.manager.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+
 @Service
 public class UserDetailsServiceImpl implements UserDetailsService {
 
+    private static final String REGION = "principals";
+
     private final UserRepository userRepository;
+    private final CacheInvalidationBus invalidationBus;
+    // Every authenticated request and STOMP CONNECT resolves its principal here; unknown usernames are not cached
+    private final Cache<String, User> principals;
 
-    public UserDetailsServiceImpl(UserRepository userRepository) {
+    public UserDetailsServiceImpl(UserRepository userRepository,
+                                  CacheInvalidationBus invalidationBus,
+                                  @Value("${app.security.principal-cache.maximum-size:10000}") long maximumSize,
+                                  @Value("${app.security.principal-cache.ttl-seconds:300}") long ttlSeconds) {
         this.userRepository = userRepository;
+        this.invalidationBus = invalidationBus;
+        this.principals = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+        invalidationBus.subscribe(REGION, username -> {
+            if (username == null) {
+                principals.invalidateAll();
+            } else {
+                principals.invalidate(username);
+            }
+        });
     }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        return userRepository.findByUsername(username)
-                .orElseThrow(() -> new UsernameNotFoundException("User not found with username: " + username));
+        User user = principals.get(username, name -> userRepository.findByUsername(name).orElse(null));
+        if (user == null) {
+            throw new UsernameNotFoundException("User not found with username: " + username);
+        }
+        return user;
+    }
+
+    /**
+     * Drops a cached principal on this node and every other one; call after the user row changes.
+     */
+    public void evict(String username) {
+        principals.invalidate(username);
+        invalidationBus.publishEvict(REGION, username);
     }
-}
\ No newline at end of file
+}
@@ -3,6 +3,7 @@ package com.board.manager.service;
 import com.board.manager.exception.InvalidRoleException;
 import com.board.manager.model.User;
 import com.board.manager.repository.UserRepository;
+import com.board.manager.service.permission.BoardPermissionResolver;
 import org.springframework.stereotype.Service;
 
 import java.util.Arrays;
@@ -11,9 +12,16 @@ import java.util.Arrays;
 public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
+    private final UserDetailsServiceImpl userDetailsService;
+    private final TokenVersionService tokenVersionService;
+    private final BoardPermissionResolver boardPermissionResolver;
 
-    public UserServiceImpl(UserRepository userRepository) {
+    public UserServiceImpl(UserRepository userRepository, UserDetailsServiceImpl userDetailsService,
+                           TokenVersionService tokenVersionService, BoardPermissionResolver boardPermissionResolver) {
         this.userRepository = userRepository;
+        this.userDetailsService = userDetailsService;
+        this.tokenVersionService = tokenVersionService;
+        this.boardPermissionResolver = boardPermissionResolver;
     }
 
     public User createUser(String username, String password, String email, String role) {
@@ -43,8 +51,11 @@ public class UserServiceImpl implements UserService {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new IllegalArgumentException("User not found with username: " + username));
 
+        // Stateless tokens embed the role, and a password change should log out existing sessions
+        boolean revokeTokens = false;
         if (newPassword != null && !newPassword.isEmpty()) {
             user.setPassword(newPassword);
+            revokeTokens = true;
         }
         if (newEmail != null && !newEmail.isEmpty()) {
             if (userRepository.existsByEmail(newEmail)) {
@@ -55,6 +66,7 @@ public class UserServiceImpl implements UserService {
         if (newRole != null && !newRole.isEmpty()) {
             try {
                 user.setRole(User.Role.valueOf(newRole));
+                revokeTokens = true;
             } catch (IllegalArgumentException e) {
                 throw new InvalidRoleException("Invalid role: " + newRole + ". Allowed values are: " +
                         String.join(", ", Arrays.stream(User.Role.values())
@@ -63,13 +75,22 @@ public class UserServiceImpl implements UserService {
             }
         }
 
+        // Revoke first: if Redis is unreachable the change is not applied, rather than applied with old tokens live
+        if (revokeTokens) {
+            tokenVersionService.revokeTokens(user.getId());
+        }
         userRepository.save(user);
+        userDetailsService.evict(username);
         return true;
     }
 
     public void deleteUser(String username) {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new IllegalArgumentException("User not found with username: " + username));
+        tokenVersionService.revokeTokens(user.getId());
         userRepository.delete(user);
+        userDetailsService.evict(username);
+        // Cached roles would otherwise outlive the user, and a reused id would inherit them
+        boardPermissionResolver.invalidateUser(user.getId());
     }
 }
\ No newline at end of file
@@ -3,7 +3,6 @@ package com.board.manager.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.EventListener;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 import org.springframework.web.socket.messaging.SessionConnectEvent;
@@ -23,8 +22,8 @@ public class WebSocketConnectionManager {
 
     private static final String TOPIC_PREFIX = "/topic/board/";
 
-    private final SimpMessagingTemplate messagingTemplate;
     private final WebSocketSessionService sessionService;
+    private final BoardUpdateCoalescer boardUpdateCoalescer;
 
     @Async
     @EventListener
@@ -51,21 +50,17 @@ public class WebSocketConnectionManager {
         String sessionId = accessor.getSessionId();
 
         if (sessionId != null) {
-            String username = sessionService.getSessionUser(sessionId);
-
-            if (username != null) {
-                // Get all boards this user was connected to - now using username instead of sessionId
-                Set<Integer> userBoards = sessionService.getUserBoards(username);
+            // One script removes the session and the user's board presence
+            WebSocketSessionService.DisconnectedSession disconnected = sessionService.disconnectSession(sessionId);
 
+            if (disconnected != null) {
                 // Notify all boards that user left
-                for (Integer boardId : userBoards) {
-                    sessionService.removeUserFromBoard(boardId, username);
-                    broadcastUserLeft(boardId, username);
+                for (Integer boardId : disconnected.boardIds()) {
+                    broadcastUserLeft(boardId, disconnected.username());
                 }
 
-                sessionService.unregisterSession(sessionId);
                 log.info("WebSocket session disconnected: {} for user: {} (cleaned up {} boards)",
-                        sessionId, username, userBoards.size());
+                        sessionId, disconnected.username(), disconnected.boardIds().size());
             }
         } else {
             if (log.isDebugEnabled()) {
@@ -114,12 +109,7 @@ public class WebSocketConnectionManager {
         Assert.notNull(boardId, "Board ID must not be null");
         Assert.hasText(username, "Username must not be empty");
 
-        if (sessionService.isUserActiveOnBoard(boardId, username)) {
-            return false;
-        }
-
-        sessionService.addUserToBoard(boardId, username);
-        return true;
+        return sessionService.addUserToBoard(boardId, username);
     }
 
     public void removeUserFromBoard(Integer boardId, String username) {
@@ -143,7 +133,7 @@ public class WebSocketConnectionManager {
                     .timestamp(java.time.LocalDateTime.now())
                     .build();
 
-            messagingTemplate.convertAndSend(TOPIC_PREFIX + boardId, update);
+            boardUpdateCoalescer.submit(boardId, update);
             if (log.isDebugEnabled()) {
                 log.debug("Broadcasted user left for {} on board {}", username, boardId);
             }
@@ -8,6 +8,10 @@ import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 @Slf4j
@@ -16,6 +20,7 @@ import java.util.UUID;
 public class WebSocketService {
 
     private final SimpMessagingTemplate messagingTemplate;
+    private final BoardUpdateCoalescer boardUpdateCoalescer;
 
     /**
      * Broadcast task creation to all board subscribers
@@ -30,24 +35,26 @@ public class WebSocketService {
                 .timestamp(LocalDateTime.now())
                 .build();
 
-        messagingTemplate.convertAndSend("/topic/board/" + boardId, update);
+        boardUpdateCoalescer.submit(boardId, update);
         log.debug("Broadcasted task creation for task {} on board {}", task.getId(), boardId);
     }
 
     /**
-     * Broadcast task update to all board subscribers
+     * Broadcast task update to all board subscribers; delta subscribers get only the changed fields
      */
-    public void broadcastTaskUpdated(Integer boardId, TaskDto task, String updaterUsername) {
+    public void broadcastTaskUpdated(Integer boardId, TaskDto task, Set<String> changedFields, String updaterUsername) {
         BoardUpdateDto update = BoardUpdateDto.builder()
                 .type(BoardUpdateDto.UpdateType.TASK_UPDATED)
                 .boardId(boardId)
                 .taskId(task.getId())
                 .taskData(task)
+                .changes(changesOf(task, changedFields))
+                .version(task.getVersion())
                 .message(updaterUsername + " updated task: " + task.getTitle())
                 .timestamp(LocalDateTime.now())
                 .build();
 
-        messagingTemplate.convertAndSend("/topic/board/" + boardId, update);
+        boardUpdateCoalescer.submit(boardId, update);
         log.debug("Broadcasted task update for task {} on board {}", task.getId(), boardId);
     }
 
@@ -63,25 +70,28 @@ public class WebSocketService {
                 .timestamp(LocalDateTime.now())
                 .build();
 
-        messagingTemplate.convertAndSend("/topic/board/" + boardId, update);
+        boardUpdateCoalescer.submit(boardId, update);
         log.debug("Broadcasted task deletion for task {} on board {}", taskId, boardId);
     }
 
     /**
      * Broadcast task assignment to all board subscribers and send private notification
      */
-    public void broadcastTaskAssigned(Integer boardId, TaskDto task, String assignerUsername, String assigneeUsername, Integer assigneeId) {
+    public void broadcastTaskAssigned(Integer boardId, TaskDto task, Set<String> changedFields, String assignerUsername,
+                                      String assigneeUsername, Integer assigneeId) {
         BoardUpdateDto update = BoardUpdateDto.builder()
                 .type(BoardUpdateDto.UpdateType.TASK_ASSIGNED)
                 .boardId(boardId)
                 .taskId(task.getId())
                 .taskData(task)
+                .changes(changesOf(task, changedFields))
+                .version(task.getVersion())
                 .message(assignerUsername + " assigned task '" + task.getTitle() + "' to " + assigneeUsername)
                 .timestamp(LocalDateTime.now())
                 .build();
 
         // Broadcast to all board subscribers
-        messagingTemplate.convertAndSend("/topic/board/" + boardId, update);
+        boardUpdateCoalescer.submit(boardId, update);
 
         // Send private notification to the assignee
         sendPrivateNotification(assigneeId, "You have been assigned a new task: " + task.getTitle());
@@ -89,6 +99,22 @@ public class WebSocketService {
         log.debug("Broadcasted task assignment for task {} on board {}", task.getId(), boardId);
     }
 
+    /**
+     * Broadcast the result of a bulk task mutation as a single BATCH frame
+     */
+    public void broadcastTaskBatch(Integer boardId, List<BoardUpdateDto> updates, String username) {
+        BoardUpdateDto update = BoardUpdateDto.builder()
+                .type(BoardUpdateDto.UpdateType.BATCH)
+                .boardId(boardId)
+                .updates(updates)
+                .message(username + " changed " + updates.size() + " tasks")
+                .timestamp(LocalDateTime.now())
+                .build();
+
+        boardUpdateCoalescer.submit(boardId, update);
+        log.debug("Broadcasted batch of {} task updates on board {}", updates.size(), boardId);
+    }
+
     /**
      * Send private notification to a specific user
      */
@@ -112,7 +138,27 @@ public class WebSocketService {
                 .timestamp(LocalDateTime.now())
                 .build();
 
-        messagingTemplate.convertAndSend("/topic/board/" + boardId, update);
+        boardUpdateCoalescer.submit(boardId, update);
         log.debug("Broadcasted board update for board {}", boardId);
     }
+
+    /**
+     * Picks the named TaskDto properties; their values are read from the updated task. Null fields mean no delta.
+     */
+    private static Map<String, Object> changesOf(TaskDto task, Set<String> changedFields) {
+        if (changedFields == null) {
+            return null;
+        }
+        Map<String, Object> changes = new LinkedHashMap<>();
+        for (String field : changedFields) {
+            switch (field) {
+                case "title" -> changes.put(field, task.getTitle());
+                case "description" -> changes.put(field, task.getDescription());
+                case "status" -> changes.put(field, task.getStatus());
+                case "assignedTo" -> changes.put(field, task.getAssignedTo());
+                default -> throw new IllegalArgumentException("Unsupported task field: " + field);
+            }
+        }
+        return changes;
+    }
 }
@@ -3,12 +3,14 @@ package com.board.manager.service;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 import org.springframework.util.Assert;
 
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
@@ -23,6 +25,50 @@ public class WebSocketSessionService {
     private static final String BOARD_USERS_PREFIX = "ws:board:";
     private static final String USER_BOARDS_PREFIX = "ws:user:boards:";
 
+    // Presence changes run as scripts so each is one atomic round trip. Redis drops sets once they are empty,
+    // so no explicit cleanup is needed after SREM.
+
+    // KEYS: board users, user boards. ARGV: username, board id, ttl seconds. Returns 1 for a new join
+    private static final RedisScript<Long> JOIN_SCRIPT = new DefaultRedisScript<>("""
+            local added = redis.call('SADD', KEYS[1], ARGV[1])
+            redis.call('SADD', KEYS[2], ARGV[2])
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+            redis.call('EXPIRE', KEYS[2], ARGV[3])
+            return added
+            """, Long.class);
+
+    // KEYS: board users, user boards. ARGV: username, board id
+    private static final RedisScript<Long> LEAVE_SCRIPT = new DefaultRedisScript<>("""
+            local removed = redis.call('SREM', KEYS[1], ARGV[1])
+            redis.call('SREM', KEYS[2], ARGV[2])
+            return removed
+            """, Long.class);
+
+    // KEYS: session. ARGV: user boards prefix, board users prefix. Returns {username, board ids...}, or {} for an
+    // unknown session. The per-user and per-board keys are derived in the script, which assumes a single Redis node
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> DISCONNECT_SCRIPT = new DefaultRedisScript<>("""
+            local username = redis.call('GET', KEYS[1])
+            if not username then
+                return {}
+            end
+            redis.call('DEL', KEYS[1])
+            local userBoardsKey = ARGV[1] .. username
+            local boards = redis.call('SMEMBERS', userBoardsKey)
+            for _, boardId in ipairs(boards) do
+                redis.call('SREM', ARGV[2] .. boardId, username)
+            end
+            redis.call('DEL', userBoardsKey)
+            table.insert(boards, 1, username)
+            return boards
+            """, List.class);
+
+    /**
+     * User of a closed session and the boards it was removed from.
+     */
+    public record DisconnectedSession(String username, Set<Integer> boardIds) {
+    }
+
     private final RedisTemplate<String, String> redisTemplate;
 
     @Value("${websocket.session.timeout.hours:24}")
@@ -72,25 +118,21 @@ public class WebSocketSessionService {
         }
     }
 
-    public void addUserToBoard(Integer boardId, String username) {
+    /**
+     * Returns false if the user was already active on the board.
+     */
+    public boolean addUserToBoard(Integer boardId, String username) {
         Assert.notNull(boardId, "Board ID must not be null");
         Assert.hasText(username, "Username must not be empty");
 
         try {
-            redisTemplate.execute((RedisCallback<Object>) connection -> {
-                connection.multi();
-                String boardKey = BOARD_USERS_PREFIX + boardId;
-                String userBoardsKey = USER_BOARDS_PREFIX + username;
-                redisTemplate.opsForSet().add(boardKey, username);
-                redisTemplate.opsForSet().add(userBoardsKey, boardId.toString());
-                redisTemplate.expire(boardKey, sessionTimeoutHours, TimeUnit.HOURS);
-                redisTemplate.expire(userBoardsKey, sessionTimeoutHours, TimeUnit.HOURS);
-                connection.exec();
-                return null;
-            });
+            Long added = redisTemplate.execute(JOIN_SCRIPT,
+                    List.of(BOARD_USERS_PREFIX + boardId, USER_BOARDS_PREFIX + username),
+                    username, boardId.toString(), String.valueOf(TimeUnit.HOURS.toSeconds(sessionTimeoutHours)));
             if (log.isDebugEnabled()) {
                 log.debug("Added user {} to board {}", username, boardId);
             }
+            return added != null && added == 1;
         } catch (Exception e) {
             log.error("Failed to add user {} to board {}: {}", username, boardId, e.getMessage());
             throw new RuntimeException("Failed to add user to board", e);
@@ -102,32 +144,38 @@ public class WebSocketSessionService {
         Assert.hasText(username, "Username must not be empty");
 
         try {
-            String boardKey = BOARD_USERS_PREFIX + boardId;
-            String userBoardsKey = USER_BOARDS_PREFIX + username;
-
-            SetOperations<String, String> setOps = redisTemplate.opsForSet();
-
-            // Remove user from board
-            setOps.remove(boardKey, username);
+            redisTemplate.execute(LEAVE_SCRIPT,
+                    List.of(BOARD_USERS_PREFIX + boardId, USER_BOARDS_PREFIX + username),
+                    username, boardId.toString());
+            log.debug("Removed user {} from board {}", username, boardId);
+        } catch (Exception e) {
+            log.error("Failed to remove user {} from board {}: {}", username, boardId, e.getMessage());
+            throw new RuntimeException("Failed to remove user from board", e);
+        }
+    }
 
-            // Remove board from user's boards
-            setOps.remove(userBoardsKey, boardId.toString());
+    /**
+     * Removes the session and takes its user off every board they were on, in one step.
+     * Returns null for a session that is not tracked.
+     */
+    public DisconnectedSession disconnectSession(String sessionId) {
+        Assert.hasText(sessionId, "Session ID must not be empty");
 
-            // Clean up empty sets
-            Long boardSize = setOps.size(boardKey);
-            if (boardSize != null && boardSize == 0) {
-                redisTemplate.delete(boardKey);
+        try {
+            List<?> result = redisTemplate.execute(DISCONNECT_SCRIPT,
+                    List.of(SESSION_PREFIX + sessionId),
+                    USER_BOARDS_PREFIX, BOARD_USERS_PREFIX);
+            if (result == null || result.isEmpty()) {
+                return null;
             }
-
-            Long userBoardsSize = setOps.size(userBoardsKey);
-            if (userBoardsSize != null && userBoardsSize == 0) {
-                redisTemplate.delete(userBoardsKey);
+            Set<Integer> boardIds = new LinkedHashSet<>();
+            for (Object boardId : result.subList(1, result.size())) {
+                boardIds.add(Integer.parseInt(boardId.toString()));
             }
-
-            log.debug("Removed user {} from board {}", username, boardId);
+            return new DisconnectedSession(result.get(0).toString(), boardIds);
         } catch (Exception e) {
-            log.error("Failed to remove user {} from board {}: {}", username, boardId, e.getMessage());
-            throw new RuntimeException("Failed to remove user from board", e);
+            log.error("Failed to disconnect session {}: {}", sessionId, e.getMessage());
+            throw new RuntimeException("Failed to disconnect session", e);
         }
     }
 
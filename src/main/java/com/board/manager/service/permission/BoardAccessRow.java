@@ -0,0 +1,9 @@
+package com.board.manager.service.permission;
+
+import com.board.manager.model.BoardMember;
+
+/**
+ * Owner of an active board and the membership role of one user on it, or null if they are not a member.
+ */
+public record BoardAccessRow(Integer ownerId, BoardMember.BoardRole memberRole) {
+}
@@ -0,0 +1,159 @@
+package com.board.manager.service.permission;
+
+import com.board.manager.cache.CacheInvalidationBus;
+import com.board.manager.model.BoardMember;
+import com.board.manager.model.User;
+import com.board.manager.repository.BoardRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Resolves a user's role on a board from an in-memory (boardId, userId) -> role cache, loading misses with a
+ * single projection query. Membership and board writes invalidate entries after commit, on every node through
+ * the cache invalidation bus. Boards that do not exist are not cached.
+ */
+@Component
+public class BoardPermissionResolver {
+
+    private static final String REGION = "boardPermissions";
+    private static final String ANY = "*";
+
+    // NONE marks a cached "not a member"; the other values mirror BoardMember.BoardRole
+    private enum Access {
+        NONE, OWNER, ADMIN, EDITOR, VIEWER
+    }
+
+    private final BoardRepository boardRepository;
+    private final CacheInvalidationBus invalidationBus;
+    private final Cache<Long, Access> cache;
+
+    public BoardPermissionResolver(BoardRepository boardRepository,
+                                   CacheInvalidationBus invalidationBus,
+                                   @Value("${app.permissions.cache.maximum-size:100000}") long maximumSize,
+                                   @Value("${app.permissions.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.boardRepository = boardRepository;
+        this.invalidationBus = invalidationBus;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+        invalidationBus.subscribe(REGION, this::applyRemoteInvalidation);
+    }
+
+    /**
+     * The user's role on the board: OWNER for the board owner, the membership role for members, empty otherwise.
+     *
+     * @throws EntityNotFoundException if the board does not exist or is deleted
+     */
+    public Optional<BoardMember.BoardRole> resolveRole(Integer boardId, Integer userId) {
+        // Loading inside the cache means an invalidation racing with the load waits for it and then wins
+        Access access = cache.get(key(boardId, userId), key -> load(boardId, userId));
+        return access == Access.NONE ? Optional.empty() : Optional.of(BoardMember.BoardRole.valueOf(access.name()));
+    }
+
+    public boolean canAccess(Integer boardId, User user) {
+        // Admins can see all boards
+        if (user.getRole() == User.Role.ADMIN) {
+            return true;
+        }
+        return resolveRole(boardId, user.getId()).isPresent();
+    }
+
+    public boolean hasPermission(Integer boardId, User user, BoardMember.BoardRole requiredRole) {
+        return resolveRole(boardId, user.getId())
+                .map(role -> hasRolePermission(role, requiredRole))
+                .orElse(false);
+    }
+
+    public void invalidate(Integer boardId, Integer userId) {
+        afterCommit(() -> {
+            cache.invalidate(key(boardId, userId));
+            invalidationBus.publishEvict(REGION, boardId + ":" + userId);
+        });
+    }
+
+    public void invalidateBoard(Integer boardId) {
+        afterCommit(() -> {
+            removeBoard(boardId);
+            invalidationBus.publishEvict(REGION, boardId + ":" + ANY);
+        });
+    }
+
+    public void invalidateUser(Integer userId) {
+        afterCommit(() -> {
+            removeUser(userId);
+            invalidationBus.publishEvict(REGION, ANY + ":" + userId);
+        });
+    }
+
+    private Access load(Integer boardId, Integer userId) {
+        BoardAccessRow row = boardRepository.findAccessRow(boardId, userId)
+                .orElseThrow(() -> new EntityNotFoundException("Board not found"));
+        if (row.ownerId().equals(userId)) {
+            return Access.OWNER;
+        }
+        return row.memberRole() != null ? Access.valueOf(row.memberRole().name()) : Access.NONE;
+    }
+
+    private void applyRemoteInvalidation(String key) {
+        if (key == null) {
+            cache.invalidateAll();
+            return;
+        }
+        String[] parts = key.split(":", 2);
+        if (ANY.equals(parts[1])) {
+            removeBoard(Integer.valueOf(parts[0]));
+        } else if (ANY.equals(parts[0])) {
+            removeUser(Integer.valueOf(parts[1]));
+        } else {
+            cache.invalidate(key(Integer.valueOf(parts[0]), Integer.valueOf(parts[1])));
+        }
+    }
+
+    private void removeBoard(Integer boardId) {
+        cache.asMap().keySet().removeIf(key -> (int) (key >>> 32) == boardId);
+    }
+
+    private void removeUser(Integer userId) {
+        cache.asMap().keySet().removeIf(key -> (int) key.longValue() == userId);
+    }
+
+    // Board id in the high 32 bits, user id in the low 32 bits
+    private static long key(Integer boardId, Integer userId) {
+        return ((long) boardId << 32) | (userId & 0xFFFFFFFFL);
+    }
+
+    private static boolean hasRolePermission(BoardMember.BoardRole userRole, BoardMember.BoardRole requiredRole) {
+        // Define role hierarchy: OWNER > ADMIN > EDITOR > VIEWER
+        return switch (requiredRole) {
+            case VIEWER -> true; // All roles can view
+            case EDITOR -> userRole == BoardMember.BoardRole.OWNER ||
+                          userRole == BoardMember.BoardRole.ADMIN ||
+                          userRole == BoardMember.BoardRole.EDITOR;
+            case ADMIN -> userRole == BoardMember.BoardRole.OWNER ||
+                         userRole == BoardMember.BoardRole.ADMIN;
+            case OWNER -> userRole == BoardMember.BoardRole.OWNER;
+        };
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
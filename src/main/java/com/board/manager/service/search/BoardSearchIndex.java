@@ -0,0 +1,151 @@
+package com.board.manager.service.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Inverted index for the tasks of one board. Terms live in a sorted map so a query token can be
+ * expanded to every indexed term it prefixes; each posting stores the task's weighted term frequency.
+ */
+class BoardSearchIndex {
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    // Upper bound on dictionary terms a single short prefix may expand to
+    private static final int MAX_PREFIX_EXPANSIONS = 128;
+
+    private final NavigableMap<String, Map<UUID, Integer>> postings = new TreeMap<>();
+    private final Map<UUID, Set<String>> termsByTask = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    void index(UUID taskId, String title, String description) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        TaskTokenizer.tokenize(title).forEach(term -> frequencies.merge(term, TITLE_WEIGHT, Integer::sum));
+        TaskTokenizer.tokenize(description).forEach(term -> frequencies.merge(term, DESCRIPTION_WEIGHT, Integer::sum));
+
+        lock.writeLock().lock();
+        try {
+            removeUnlocked(taskId);
+            frequencies.forEach((term, frequency) ->
+                    postings.computeIfAbsent(term, t -> new HashMap<>()).put(taskId, frequency));
+            termsByTask.put(taskId, new HashSet<>(frequencies.keySet()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(UUID taskId) {
+        lock.writeLock().lock();
+        try {
+            removeUnlocked(taskId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Tasks containing every query token (each token matches as a prefix), best match first.
+     * The score is a tf-idf sum, so rare terms and title hits rank higher.
+     */
+    List<UUID> search(List<String> queryTokens, int limit) {
+        if (queryTokens.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        lock.readLock().lock();
+        try {
+            int documentCount = termsByTask.size();
+            Map<UUID, Double> scores = null;
+
+            for (String token : queryTokens) {
+                Map<UUID, Double> tokenScores = new HashMap<>();
+                int expansions = 0;
+                for (Map.Entry<String, Map<UUID, Integer>> entry
+                        : postings.subMap(token, true, token + Character.MAX_VALUE, true).entrySet()) {
+                    if (++expansions > MAX_PREFIX_EXPANSIONS) {
+                        break;
+                    }
+                    Map<UUID, Integer> documents = entry.getValue();
+                    double idf = Math.log(1.0 + (double) documentCount / documents.size());
+                    // Exact term matches outrank completions of a prefix
+                    double exactBoost = entry.getKey().length() == token.length() ? 1.5 : 1.0;
+                    documents.forEach((taskId, frequency) ->
+                            tokenScores.merge(taskId, frequency * idf * exactBoost, Double::sum));
+                }
+
+                if (scores == null) {
+                    scores = tokenScores;
+                } else {
+                    Map<UUID, Double> previous = scores;
+                    scores = new HashMap<>();
+                    for (Map.Entry<UUID, Double> entry : tokenScores.entrySet()) {
+                        Double score = previous.get(entry.getKey());
+                        if (score != null) {
+                            scores.put(entry.getKey(), score + entry.getValue());
+                        }
+                    }
+                }
+                if (scores.isEmpty()) {
+                    return Collections.emptyList();
+                }
+            }
+
+            return topK(scores, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return termsByTask.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeUnlocked(UUID taskId) {
+        Set<String> terms = termsByTask.remove(taskId);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            Map<UUID, Integer> documents = postings.get(term);
+            if (documents != null) {
+                documents.remove(taskId);
+                if (documents.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    private static List<UUID> topK(Map<UUID, Double> scores, int limit) {
+        PriorityQueue<Map.Entry<UUID, Double>> heap = new PriorityQueue<>(limit + 1, Map.Entry.comparingByValue());
+        for (Map.Entry<UUID, Double> entry : scores.entrySet()) {
+            heap.offer(entry);
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+
+        List<UUID> result = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            result.add(heap.poll().getKey());
+        }
+        Collections.reverse(result);
+        return result;
+    }
+}
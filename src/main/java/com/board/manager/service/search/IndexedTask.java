@@ -0,0 +1,9 @@
+package com.board.manager.service.search;
+
+import java.util.UUID;
+
+/**
+ * The searchable fields of a task, as read from the database when the index is rebuilt.
+ */
+public record IndexedTask(UUID id, Integer boardId, String title, String description) {
+}
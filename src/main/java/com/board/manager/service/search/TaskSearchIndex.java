@@ -0,0 +1,183 @@
+package com.board.manager.service.search;
+
+import com.board.manager.cache.CacheInvalidationBus;
+import com.board.manager.repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * In-process full-text index over task titles and descriptions, one inverted index per board.
+ * It is rebuilt from the database on startup and kept current by the task mutation methods;
+ * changes made inside a transaction are applied only once it commits. Every change is announced
+ * over the invalidation bus, and other nodes re-read the task from the database.
+ */
+@Slf4j
+@Component
+public class TaskSearchIndex implements ApplicationRunner {
+
+    private static final String REGION = "taskSearch";
+    private static final String ANY = "*";
+
+    private final TaskRepository taskRepository;
+    private final CacheInvalidationBus invalidationBus;
+    private final TransactionTemplate readOnlyTransaction;
+    // Replaced wholesale by a rebuild; writes go through apply()
+    private volatile Map<Integer, BoardSearchIndex> boards = new ConcurrentHashMap<>();
+    // Changes applied while a rebuild is reading the database, replayed onto the new index before the swap
+    private List<Consumer<Map<Integer, BoardSearchIndex>>> rebuildBacklog;
+    private final Object rebuildLock = new Object();
+
+    @Value("${app.search.rebuild-on-startup:true}")
+    private boolean rebuildOnStartup;
+
+    public TaskSearchIndex(TaskRepository taskRepository,
+                           CacheInvalidationBus invalidationBus,
+                           PlatformTransactionManager transactionManager) {
+        this.taskRepository = taskRepository;
+        this.invalidationBus = invalidationBus;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        invalidationBus.subscribe(REGION, this::applyRemoteChange);
+    }
+
+    public void index(Integer boardId, UUID taskId, String title, String description) {
+        afterCommit(() -> {
+            indexLocally(boardId, taskId, title, description);
+            invalidationBus.publishEvict(REGION, boardId + ":" + taskId);
+        });
+    }
+
+    public void remove(Integer boardId, UUID taskId) {
+        afterCommit(() -> {
+            removeLocally(boardId, taskId);
+            invalidationBus.publishEvict(REGION, boardId + ":" + taskId);
+        });
+    }
+
+    public void removeBoard(Integer boardId) {
+        afterCommit(() -> {
+            apply(indexes -> indexes.remove(boardId));
+            invalidationBus.publishEvict(REGION, boardId + ":" + ANY);
+        });
+    }
+
+    public List<UUID> search(Integer boardId, String query, int limit) {
+        BoardSearchIndex index = boards.get(boardId);
+        if (index == null) {
+            return Collections.emptyList();
+        }
+        return index.search(TaskTokenizer.tokenize(query), limit);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (rebuildOnStartup) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Reads every task into a fresh index and swaps it in. Searches keep using the old index meanwhile,
+     * and changes committed during the read are replayed onto the new one.
+     */
+    public void rebuild() {
+        synchronized (rebuildLock) {
+            rebuildUnderLock();
+        }
+    }
+
+    private void rebuildUnderLock() {
+        long start = System.currentTimeMillis();
+        Map<Integer, BoardSearchIndex> rebuilt = new ConcurrentHashMap<>();
+        synchronized (this) {
+            rebuildBacklog = new ArrayList<>();
+        }
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<IndexedTask> tasks = taskRepository.streamAllForIndex()) {
+                    tasks.forEach(task -> rebuilt.computeIfAbsent(task.boardId(), id -> new BoardSearchIndex())
+                            .index(task.id(), task.title(), task.description()));
+                }
+            });
+            synchronized (this) {
+                rebuildBacklog.forEach(change -> change.accept(rebuilt));
+                boards = rebuilt;
+            }
+        } finally {
+            synchronized (this) {
+                rebuildBacklog = null;
+            }
+        }
+        int indexed = rebuilt.values().stream().mapToInt(BoardSearchIndex::size).sum();
+        log.info("Rebuilt task search index: {} tasks on {} boards in {} ms",
+                indexed, rebuilt.size(), System.currentTimeMillis() - start);
+    }
+
+    private void applyRemoteChange(String key) {
+        if (key == null) {
+            rebuild();
+            return;
+        }
+        String[] parts = key.split(":", 2);
+        Integer boardId = Integer.valueOf(parts[0]);
+        if (ANY.equals(parts[1])) {
+            apply(indexes -> indexes.remove(boardId));
+            return;
+        }
+        // The message only names the task; the committed row is the source of truth
+        UUID taskId = UUID.fromString(parts[1]);
+        taskRepository.findForIndex(taskId).ifPresentOrElse(
+                task -> indexLocally(task.boardId(), task.id(), task.title(), task.description()),
+                () -> removeLocally(boardId, taskId));
+    }
+
+    private void indexLocally(Integer boardId, UUID taskId, String title, String description) {
+        apply(indexes -> indexes.computeIfAbsent(boardId, id -> new BoardSearchIndex())
+                .index(taskId, title, description));
+    }
+
+    private void removeLocally(Integer boardId, UUID taskId) {
+        apply(indexes -> {
+            BoardSearchIndex index = indexes.get(boardId);
+            if (index != null) {
+                index.remove(taskId);
+            }
+        });
+    }
+
+    private synchronized void apply(Consumer<Map<Integer, BoardSearchIndex>> change) {
+        change.accept(boards);
+        if (rebuildBacklog != null) {
+            rebuildBacklog.add(change);
+        }
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.board.manager.service.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Splits text into lower-cased letter/digit runs. Single characters are dropped and very long
+ * runs are truncated so pasted blobs cannot bloat the term dictionary.
+ */
+final class TaskTokenizer {
+
+    static final int MIN_TOKEN_LENGTH = 2;
+    static final int MAX_TOKEN_LENGTH = 40;
+
+    private TaskTokenizer() {
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                if (i - start >= MIN_TOKEN_LENGTH) {
+                    int end = Math.min(i, start + MAX_TOKEN_LENGTH);
+                    tokens.add(text.substring(start, end).toLowerCase(Locale.ROOT));
+                }
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,132 @@
+package com.board.manager.cache;
+
+import com.board.manager.dto.TaskDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Single-flight behaviour of getOrLoad. The Redis template is a bare mock, so every read misses and no lease
+ * can be taken: the cache runs on its degraded path, where only the per-node load sharing applies.
+ */
+class BoardTaskCacheTest {
+
+    private static final Integer BOARD_ID = 1;
+    private static final int READERS = 8;
+
+    private BoardTaskCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new BoardTaskCache(mock(StringRedisTemplate.class), 600, 3000, 1.0, 2048, "1");
+    }
+
+    @Test
+    void concurrentMissesShareOneLoad() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<TaskDto> tasks = List.of(task());
+        Supplier<List<TaskDto>> loader = () -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            awaitQuietly(release);
+            return tasks;
+        };
+
+        List<List<TaskDto>> results = new CopyOnWriteArrayList<>();
+        Thread leader = new Thread(() -> results.add(cache.getOrLoad(BOARD_ID, loader)));
+        leader.start();
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        List<Thread> followers = new ArrayList<>();
+        for (int i = 1; i < READERS; i++) {
+            Thread follower = new Thread(() -> results.add(cache.getOrLoad(BOARD_ID, loader)));
+            followers.add(follower);
+            follower.start();
+        }
+        awaitParked(followers);
+        release.countDown();
+
+        leader.join(5000);
+        for (Thread follower : followers) {
+            follower.join(5000);
+        }
+
+        assertThat(loads).hasValue(1);
+        assertThat(results).hasSize(READERS).allSatisfy(result -> assertThat(result).isSameAs(tasks));
+    }
+
+    @Test
+    void failedLoadReachesWaitersAndIsNotRemembered() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<List<TaskDto>> failingLoader = () -> {
+            loading.countDown();
+            awaitQuietly(release);
+            throw new IllegalStateException("database down");
+        };
+
+        List<Throwable> failures = new CopyOnWriteArrayList<>();
+        Runnable read = () -> {
+            try {
+                cache.getOrLoad(BOARD_ID, failingLoader);
+            } catch (RuntimeException e) {
+                failures.add(e);
+            }
+        };
+        Thread leader = new Thread(read);
+        leader.start();
+        assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+        Thread follower = new Thread(read);
+        follower.start();
+        awaitParked(List.of(follower));
+        release.countDown();
+        leader.join(5000);
+        follower.join(5000);
+
+        assertThat(failures).hasSize(2).allSatisfy(e -> assertThat(e).hasMessage("database down"));
+        // The next reader loads again instead of getting the failed result
+        List<TaskDto> tasks = List.of(task());
+        assertThat(cache.getOrLoad(BOARD_ID, () -> tasks)).isSameAs(tasks);
+    }
+
+    // Followers block in CompletableFuture.join once they have found the leader's load
+    private static void awaitParked(List<Thread> threads) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (threads.stream().anyMatch(thread -> thread.getState() != Thread.State.WAITING)) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static TaskDto task() {
+        TaskDto task = new TaskDto();
+        task.setId(UUID.randomUUID());
+        task.setBoardId(BOARD_ID);
+        task.setTitle("Task");
+        task.setStatus("TODO");
+        task.setVersion(0L);
+        return task;
+    }
+}
@@ -0,0 +1,94 @@
+package com.board.manager.cache;
+
+import com.board.manager.dto.BoardDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode and decode time of the "boards" cache values in Smile, against the default-typed JSON serializer the
+ * other caches use. Payload sizes are printed once per trial. Not part of the test run; start it with
+ * {@code main} from the IDE, or run this class with the test classpath.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SmileRedisSerializerBenchmark {
+
+    @Param({"10", "200"})
+    public int boards;
+
+    @Param({"0", "20"})
+    public int tasksPerBoard;
+
+    private SmileRedisSerializer<List<BoardDto>> smile;
+    private GenericJackson2JsonRedisSerializer json;
+    private List<BoardDto> value;
+    private byte[] smileBytes;
+    private byte[] jsonBytes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ObjectMapper smileMapper = SmileRedisSerializer.createObjectMapper();
+        smile = new SmileRedisSerializer<>(smileMapper,
+                smileMapper.getTypeFactory().constructCollectionType(List.class, BoardDto.class), 2048);
+        json = new GenericJackson2JsonRedisSerializer(SmileRedisSerializerTest.defaultTypedJsonMapper());
+        value = SmileRedisSerializerTest.boards(boards, tasksPerBoard);
+        smileBytes = smile.serialize(value);
+        jsonBytes = json.serialize(value);
+    }
+
+    @TearDown(Level.Trial)
+    public void reportSizes() {
+        System.out.printf("%n%d boards x %d tasks: smile %d bytes, json %d bytes%n",
+                boards, tasksPerBoard, smileBytes.length, jsonBytes.length);
+    }
+
+    @Benchmark
+    public byte[] smileEncode() {
+        return smile.serialize(value);
+    }
+
+    @Benchmark
+    public Object smileDecode() {
+        return smile.deserialize(smileBytes);
+    }
+
+    @Benchmark
+    public byte[] jsonEncode() {
+        return json.serialize(value);
+    }
+
+    @Benchmark
+    public Object jsonDecode() {
+        return json.deserialize(jsonBytes);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(SmileRedisSerializerBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+}
@@ -0,0 +1,162 @@
+package com.board.manager.cache;
+
+import com.board.manager.dto.BoardDto;
+import com.board.manager.dto.TaskDto;
+import com.board.manager.dto.UserSummaryDto;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Format and round trips of the Smile cache serializer. Encode and decode times are compared in
+ * SmileRedisSerializerBenchmark.
+ */
+class SmileRedisSerializerTest {
+
+    private static final byte PLAIN = 1;
+    private static final byte DEFLATED = 2;
+
+    private final ObjectMapper smileMapper = SmileRedisSerializer.createObjectMapper();
+    private final JavaType boardListType = smileMapper.getTypeFactory().constructCollectionType(List.class, BoardDto.class);
+
+    @Test
+    void smallValueRoundTripsPlain() {
+        SmileRedisSerializer<List<BoardDto>> serializer = serializer(2048);
+        List<BoardDto> boards = boards(1, 1);
+
+        byte[] bytes = serializer.serialize(boards);
+
+        assertThat(bytes[0]).isEqualTo(PLAIN);
+        assertThat(serializer.deserialize(bytes)).isEqualTo(boards);
+    }
+
+    @Test
+    void largeValueRoundTripsDeflated() {
+        SmileRedisSerializer<List<BoardDto>> serializer = serializer(2048);
+        List<BoardDto> boards = boards(50, 10);
+
+        byte[] bytes = serializer.serialize(boards);
+
+        assertThat(bytes[0]).isEqualTo(DEFLATED);
+        assertThat(bytes.length).isLessThan(serializer(Integer.MAX_VALUE).serialize(boards).length);
+        assertThat(serializer.deserialize(bytes)).isEqualTo(boards);
+    }
+
+    @Test
+    void compressesFromTheThresholdOn() {
+        List<BoardDto> boards = boards(10, 5);
+        // Header byte excluded, so this is the length the threshold is compared with
+        int payloadLength = serializer(Integer.MAX_VALUE).serialize(boards).length - 1;
+
+        byte[] atThreshold = serializer(payloadLength).serialize(boards);
+        byte[] belowThreshold = serializer(payloadLength + 1).serialize(boards);
+
+        assertThat(atThreshold[0]).isEqualTo(DEFLATED);
+        assertThat(belowThreshold[0]).isEqualTo(PLAIN);
+        assertThat(serializer(payloadLength).deserialize(atThreshold)).isEqualTo(boards);
+        assertThat(serializer(payloadLength + 1).deserialize(belowThreshold)).isEqualTo(boards);
+    }
+
+    @Test
+    void keepsPayloadsPlainWhenDeflatingDoesNotHelp() {
+        SmileRedisSerializer<List<BoardDto>> serializer = serializer(1);
+        BoardDto board = new BoardDto();
+        board.setId(1);
+        board.setName("b");
+
+        byte[] bytes = serializer.serialize(List.of(board));
+
+        assertThat(bytes[0]).isEqualTo(PLAIN);
+        assertThat(serializer.deserialize(bytes)).containsExactly(board);
+    }
+
+    @Test
+    void readsUnknownFormatAsMiss() {
+        SmileRedisSerializer<List<BoardDto>> serializer = serializer(2048);
+        byte[] bytes = serializer.serialize(boards(1, 1));
+        bytes[0] = 42;
+
+        assertThat(serializer.deserialize(bytes)).isNull();
+        // Entries written by the default-typed JSON serializer start with '['
+        assertThat(serializer.deserialize("[\"java.util.ArrayList\",[]]".getBytes())).isNull();
+    }
+
+    @Test
+    void mapsNullToEmptyPayload() {
+        SmileRedisSerializer<List<BoardDto>> serializer = serializer(2048);
+
+        assertThat(serializer.serialize(null)).isEmpty();
+        assertThat(serializer.deserialize(new byte[0])).isNull();
+        assertThat(serializer.deserialize(null)).isNull();
+    }
+
+    @Test
+    void isSmallerThanDefaultTypedJson() {
+        GenericJackson2JsonRedisSerializer json = new GenericJackson2JsonRedisSerializer(defaultTypedJsonMapper());
+        for (List<BoardDto> boards : List.of(boards(10, 0), boards(200, 0), boards(20, 20))) {
+            byte[] smile = serializer(2048).serialize(boards);
+            byte[] typedJson = json.serialize(boards);
+
+            assertThat(smile.length).isLessThan(typedJson.length);
+            assertThat(serializer(2048).deserialize(smile)).isEqualTo(boards);
+        }
+    }
+
+    private SmileRedisSerializer<List<BoardDto>> serializer(int compressionThreshold) {
+        return new SmileRedisSerializer<>(smileMapper, boardListType, compressionThreshold);
+    }
+
+    static List<BoardDto> boards(int count, int tasksPerBoard) {
+        List<BoardDto> boards = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            BoardDto board = new BoardDto();
+            board.setId(i + 1);
+            board.setName("Board " + (i + 1));
+            List<TaskDto> tasks = new ArrayList<>();
+            for (int j = 0; j < tasksPerBoard; j++) {
+                TaskDto task = new TaskDto();
+                task.setId(UUID.randomUUID());
+                task.setTitle("Task " + j + " on board " + (i + 1));
+                task.setBoardId(board.getId());
+                task.setDescription("Description of task " + j);
+                task.setOwner(user(1, "alice"));
+                task.setAssignedTo(j % 2 == 0 ? user(2, "bob") : null);
+                task.setStatus(j % 3 == 0 ? "DONE" : "TODO");
+                task.setVersion((long) j);
+                tasks.add(task);
+            }
+            board.setTasks(tasks);
+            boards.add(board);
+        }
+        return boards;
+    }
+
+    // Same setup as the default cache serializer in RedisConfig
+    static ObjectMapper defaultTypedJsonMapper() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.ANY);
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.activateDefaultTyping(LaissezFaireSubTypeValidator.instance,
+                ObjectMapper.DefaultTyping.NON_FINAL, JsonTypeInfo.As.PROPERTY);
+        return objectMapper;
+    }
+
+    private static UserSummaryDto user(Integer id, String username) {
+        UserSummaryDto user = new UserSummaryDto();
+        user.setId(id);
+        user.setUsername(username);
+        return user;
+    }
+}
@@ -0,0 +1,116 @@
+package com.board.manager.cache;
+
+import com.board.manager.dto.CacheStatsDto;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class TwoTierCacheTest {
+
+    private TwoTierCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new TwoTierCache("test",
+                Caffeine.newBuilder().recordStats().build(),
+                new ConcurrentMapCache("test"),
+                RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer()),
+                mock(CacheInvalidationBus.class));
+    }
+
+    @Test
+    void localHitsReturnIndependentCopies() {
+        cache.put("key", new ArrayList<>(List.of("a", "b")));
+
+        @SuppressWarnings("unchecked")
+        List<String> first = cache.get("key", List.class);
+        first.add("mutated");
+        @SuppressWarnings("unchecked")
+        List<String> second = cache.get("key", List.class);
+
+        assertThat(second).containsExactly("a", "b");
+        assertThat(second).isNotSameAs(first);
+    }
+
+    @Test
+    void loadedValueIsNotSharedWithLaterReaders() {
+        List<String> loaded = cache.get("key", () -> new ArrayList<>(List.of("a")));
+        loaded.add("mutated");
+
+        assertThat(cache.get("key", () -> List.of("unused"))).containsExactly("a");
+    }
+
+    @Test
+    void invalidationDuringRemoteReadIsNotLost() throws Exception {
+        BlockingRemote remote = new BlockingRemote();
+        TwoTierCache blockingCache = new TwoTierCache("test",
+                Caffeine.newBuilder().recordStats().build(),
+                remote,
+                RedisSerializationContext.SerializationPair.fromSerializer(new GenericJackson2JsonRedisSerializer()),
+                mock(CacheInvalidationBus.class));
+        remote.put("key", "old");
+
+        Thread reader = new Thread(() -> blockingCache.get("key"));
+        reader.start();
+        assertThat(remote.reading.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // Another node writes Redis and announces it while this node's read is still in flight
+        remote.put("key", "new");
+        Thread invalidator = new Thread(() -> blockingCache.invalidateLocal("key"));
+        invalidator.start();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (invalidator.getState() == Thread.State.NEW || invalidator.getState() == Thread.State.RUNNABLE) {
+            assertThat(System.nanoTime()).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+        remote.release.countDown();
+        reader.join(5000);
+        invalidator.join(5000);
+
+        assertThat(blockingCache.get("key", String.class)).isEqualTo("new");
+    }
+
+    @Test
+    void reportsZeroHitRatesWithoutTraffic() {
+        CacheStatsDto stats = cache.stats();
+
+        assertThat(stats.getLocalHitRate()).isZero();
+        assertThat(stats.getRemoteHitRate()).isZero();
+    }
+
+    // Returns the value it read, then holds the first read until released
+    private static final class BlockingRemote extends ConcurrentMapCache {
+
+        private final CountDownLatch reading = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        BlockingRemote() {
+            super("test");
+        }
+
+        @Override
+        public ValueWrapper get(Object key) {
+            ValueWrapper wrapper = super.get(key);
+            if (reading.getCount() > 0) {
+                reading.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return wrapper;
+        }
+    }
+}
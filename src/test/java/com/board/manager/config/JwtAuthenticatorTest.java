@@ -0,0 +1,82 @@
+package com.board.manager.config;
+
+import com.board.manager.cache.CacheInvalidationBus;
+import com.board.manager.model.User;
+import com.board.manager.service.JwtServiceImpl;
+import com.board.manager.service.TokenVersionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Stateless token authentication against the per-user token version, with Redis mocked.
+ */
+class JwtAuthenticatorTest {
+
+    private static final String SECRET = "dG9rZW4tdmVyc2lvbi10ZXN0LXNpZ25pbmcta2V5LTAxMjM0NTY3ODk=";
+    private static final String VERSION_KEY = "auth:token-version:42";
+
+    private ValueOperations<String, String> redisValues;
+    private UserDetailsService userDetailsService;
+    private JwtServiceImpl jwtService;
+    private TokenVersionService tokenVersionService;
+    private JwtAuthenticator authenticator;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        redisValues = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(redisValues);
+        when(redisValues.get(VERSION_KEY)).thenReturn(null);
+
+        userDetailsService = mock(UserDetailsService.class);
+        tokenVersionService = new TokenVersionService(redisTemplate, mock(CacheInvalidationBus.class), 100, 30);
+        jwtService = new JwtServiceImpl(SECRET, 3_600_000, 100, true, tokenVersionService);
+        authenticator = new JwtAuthenticator(jwtService, userDetailsService, tokenVersionService, true);
+    }
+
+    @Test
+    void acceptsTokenWithCurrentVersionWithoutLoadingTheUser() {
+        String token = jwtService.generateToken(user());
+
+        UsernamePasswordAuthenticationToken authentication = authenticator.authenticate(token);
+
+        assertThat(authentication).isNotNull();
+        User principal = (User) authentication.getPrincipal();
+        assertThat(principal.getId()).isEqualTo(42);
+        assertThat(principal.getUsername()).isEqualTo("alice");
+        assertThat(principal.getRole()).isEqualTo(User.Role.ADMIN);
+        verifyNoInteractions(userDetailsService);
+    }
+
+    @Test
+    void rejectsTokenAfterRevocation() {
+        String token = jwtService.generateToken(user());
+        assertThat(authenticator.authenticate(token)).isNotNull();
+
+        when(redisValues.increment(VERSION_KEY)).thenReturn(1L);
+        when(redisValues.get(VERSION_KEY)).thenReturn("1");
+        tokenVersionService.revokeTokens(42);
+
+        assertThat(authenticator.authenticate(token)).isNull();
+        // A token issued after the revocation carries the new version
+        assertThat(authenticator.authenticate(jwtService.generateToken(user()))).isNotNull();
+    }
+
+    private static User user() {
+        User user = new User();
+        user.setId(42);
+        user.setUsername("alice");
+        user.setRole(User.Role.ADMIN);
+        return user;
+    }
+}
@@ -0,0 +1,258 @@
+package com.board.manager.config;
+
+import com.board.manager.model.User;
+import com.board.manager.service.BoardService;
+import org.apache.activemq.artemis.core.config.impl.ConfigurationImpl;
+import org.apache.activemq.artemis.core.server.embedded.EmbeddedActiveMQ;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageDeliveryException;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.SubscribableChannel;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompBrokerRelayMessageHandler;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.junit.jupiter.web.SpringJUnitWebConfig;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.Principal;
+import java.util.HashMap;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs the STOMP broker relay against an embedded Artemis broker and drives client frames through the
+ * inbound channel the way the WebSocket handler does.
+ */
+@SpringJUnitWebConfig(WebSocketBrokerRelayTest.Config.class)
+class WebSocketBrokerRelayTest {
+
+    private static final long TIMEOUT_SECONDS = 10;
+
+    private static EmbeddedActiveMQ broker;
+    private static int brokerPort;
+
+    @Autowired
+    @Qualifier("clientInboundChannel")
+    private MessageChannel clientInboundChannel;
+
+    @Autowired
+    @Qualifier("clientOutboundChannel")
+    private SubscribableChannel clientOutboundChannel;
+
+    @Autowired
+    private StompBrokerRelayMessageHandler relay;
+
+    @Autowired
+    private SimpMessagingTemplate brokerMessagingTemplate;
+
+    private final BlockingQueue<Message<?>> outbound = new LinkedBlockingQueue<>();
+    private final MessageHandler outboundCollector = outbound::add;
+
+    @BeforeAll
+    static void startBroker() throws Exception {
+        brokerPort = freePort();
+        ConfigurationImpl configuration = new ConfigurationImpl();
+        configuration.setPersistenceEnabled(false);
+        configuration.setSecurityEnabled(false);
+        configuration.setBrokerInstance(Files.createTempDirectory("artemis").toFile());
+        configuration.addAcceptorConfiguration("stomp", "tcp://127.0.0.1:" + brokerPort + "?protocols=STOMP");
+        broker = new EmbeddedActiveMQ();
+        broker.setConfiguration(configuration);
+        broker.start();
+    }
+
+    // Read when the context starts, which is after the broker is up
+    @DynamicPropertySource
+    static void relayProperties(DynamicPropertyRegistry registry) {
+        registry.add("websocket.broker.relay.enabled", () -> "true");
+        registry.add("websocket.broker.relay.host", () -> "127.0.0.1");
+        registry.add("websocket.broker.relay.port", () -> brokerPort);
+    }
+
+    @AfterAll
+    static void stopBroker() throws Exception {
+        if (broker != null) {
+            broker.stop();
+        }
+    }
+
+    @BeforeEach
+    void awaitRelay() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (!relay.isBrokerAvailable()) {
+            assertThat(System.nanoTime()).as("relay connected to the broker").isLessThan(deadline);
+            Thread.sleep(50);
+        }
+        outbound.clear();
+        clientOutboundChannel.subscribe(outboundCollector);
+    }
+
+    @AfterEach
+    void stopCollecting() {
+        clientOutboundChannel.unsubscribe(outboundCollector);
+    }
+
+    @Test
+    void deliversBoardBroadcastsThroughTheBroker() throws Exception {
+        String sessionId = connect(authentication());
+        subscribe(sessionId, authentication(), "/topic/board/1");
+
+        brokerMessagingTemplate.convertAndSend("/topic/board/1", "task changed");
+
+        Message<?> delivered = await(message -> {
+            StompHeaderAccessor accessor = StompHeaderAccessor.wrap(message);
+            return StompCommand.MESSAGE.equals(accessor.getCommand())
+                    && sessionId.equals(accessor.getSessionId())
+                    && "/topic/board/1".equals(accessor.getDestination());
+        });
+        assertThat(new String((byte[]) delivered.getPayload(), StandardCharsets.UTF_8)).isEqualTo("task changed");
+    }
+
+    @Test
+    void rejectsSubscriptionsToTheRelayBroadcastTopics() throws Exception {
+        String sessionId = connect(authentication());
+
+        for (String destination : new String[]{
+                WebSocketConfig.USER_REGISTRY_BROADCAST, WebSocketConfig.USER_DESTINATION_BROADCAST}) {
+            assertThatThrownBy(() -> clientInboundChannel.send(subscribeFrame(sessionId, authentication(), destination, null)))
+                    .isInstanceOf(MessageDeliveryException.class)
+                    .hasCauseInstanceOf(AccessDeniedException.class);
+        }
+    }
+
+    @Test
+    void rejectsUnauthenticatedSubscriptions() throws Exception {
+        String sessionId = connect(null);
+
+        assertThatThrownBy(() -> clientInboundChannel.send(subscribeFrame(sessionId, null, "/topic/board/1", null)))
+                .isInstanceOf(MessageDeliveryException.class)
+                .hasCauseInstanceOf(AccessDeniedException.class);
+    }
+
+    @Test
+    void rejectsClientSendsToBrokerDestinations() throws Exception {
+        String sessionId = connect(authentication());
+
+        for (String destination : new String[]{
+                WebSocketConfig.USER_REGISTRY_BROADCAST, "/topic/board/1", "/queue/notifications", "/user/bob/queue/notifications"}) {
+            StompHeaderAccessor accessor = clientFrame(StompCommand.SEND, sessionId, authentication());
+            accessor.setDestination(destination);
+            Message<byte[]> frame = MessageBuilder.createMessage("{}".getBytes(StandardCharsets.UTF_8), accessor.getMessageHeaders());
+
+            assertThatThrownBy(() -> clientInboundChannel.send(frame))
+                    .isInstanceOf(MessageDeliveryException.class)
+                    .hasCauseInstanceOf(AccessDeniedException.class);
+        }
+    }
+
+    private String connect(Principal user) throws InterruptedException {
+        String sessionId = UUID.randomUUID().toString();
+        StompHeaderAccessor accessor = clientFrame(StompCommand.CONNECT, sessionId, user);
+        accessor.setAcceptVersion("1.2");
+        accessor.setHeartbeat(0, 0);
+        clientInboundChannel.send(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+
+        await(message -> StompCommand.CONNECTED.equals(StompHeaderAccessor.wrap(message).getCommand())
+                && sessionId.equals(StompHeaderAccessor.wrap(message).getSessionId()));
+        return sessionId;
+    }
+
+    private void subscribe(String sessionId, Principal user, String destination) throws InterruptedException {
+        String receipt = UUID.randomUUID().toString();
+        clientInboundChannel.send(subscribeFrame(sessionId, user, destination, receipt));
+        // The broker acknowledges once the subscription exists, so nothing sent afterwards can miss it
+        await(message -> StompCommand.RECEIPT.equals(StompHeaderAccessor.wrap(message).getCommand())
+                && receipt.equals(StompHeaderAccessor.wrap(message).getReceiptId()));
+    }
+
+    private static Message<byte[]> subscribeFrame(String sessionId, Principal user, String destination, String receipt) {
+        StompHeaderAccessor accessor = clientFrame(StompCommand.SUBSCRIBE, sessionId, user);
+        accessor.setSubscriptionId(UUID.randomUUID().toString());
+        accessor.setDestination(destination);
+        if (receipt != null) {
+            accessor.setReceipt(receipt);
+        }
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private static StompHeaderAccessor clientFrame(StompCommand command, String sessionId, Principal user) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId(sessionId);
+        accessor.setSessionAttributes(new HashMap<>());
+        accessor.setUser(user);
+        accessor.setLeaveMutable(true);
+        return accessor;
+    }
+
+    private Message<?> await(Predicate<Message<?>> condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (true) {
+            long remaining = deadline - System.nanoTime();
+            assertThat(remaining).as("expected frame before timeout").isPositive();
+            Message<?> message = outbound.poll(remaining, TimeUnit.NANOSECONDS);
+            if (message != null && condition.test(message)) {
+                return message;
+            }
+        }
+    }
+
+    private static UsernamePasswordAuthenticationToken authentication() {
+        User user = new User();
+        user.setId(1);
+        user.setUsername("alice");
+        user.setRole(User.Role.MEMBER);
+        return new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    @Configuration
+    @Import(WebSocketConfig.class)
+    static class Config {
+
+        @Bean
+        BoardService boardService() {
+            BoardService boardService = mock(BoardService.class);
+            when(boardService.canUserAccessBoard(any(), any())).thenReturn(true);
+            return boardService;
+        }
+
+        @Bean
+        JwtAuthenticator jwtAuthenticator() {
+            return mock(JwtAuthenticator.class);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.board.manager.controller;
+
+import com.board.manager.exception.MainExceptionHandler;
+import com.board.manager.service.BoardService;
+import com.board.manager.service.TaskExportService;
+import com.board.manager.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * The bulk read and write endpoints check board access before touching any task.
+ */
+class TaskControllerBoardAccessTest {
+
+    private static final Integer BOARD_ID = 7;
+
+    private TaskService taskService;
+    private TaskExportService taskExportService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        taskService = mock(TaskService.class);
+        taskExportService = mock(TaskExportService.class);
+        BoardService boardService = mock(BoardService.class);
+        when(boardService.canUserAccessBoard(eq(BOARD_ID), any())).thenReturn(false);
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new TaskController(taskService, taskExportService, boardService))
+                .setControllerAdvice(new MainExceptionHandler())
+                .setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver())
+                .build();
+    }
+
+    @Test
+    void rejectsBoardsTheUserCannotAccess() throws Exception {
+        for (MockHttpServletRequestBuilder request : List.of(
+                get("/api/v1/board/{boardId}/task/export", BOARD_ID),
+                get("/api/v1/board/{boardId}/task/search", BOARD_ID).param("q", "report"),
+                get("/api/v1/board/{boardId}/task/page", BOARD_ID),
+                post("/api/v1/board/{boardId}/task/batch", BOARD_ID)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"operations\":[{\"type\":\"CREATE\",\"title\":\"New task\"}]}"))) {
+            mockMvc.perform(request).andExpect(status().isForbidden());
+        }
+
+        verifyNoInteractions(taskService, taskExportService);
+    }
+}
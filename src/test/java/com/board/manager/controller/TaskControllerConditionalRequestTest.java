@@ -0,0 +1,130 @@
+package com.board.manager.controller;
+
+import com.board.manager.dto.TaskDto;
+import com.board.manager.exception.MainExceptionHandler;
+import com.board.manager.exception.PreconditionFailedException;
+import com.board.manager.service.BoardService;
+import com.board.manager.service.TaskExportService;
+import com.board.manager.service.TaskService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.web.method.annotation.AuthenticationPrincipalArgumentResolver;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * If-Match parsing, ETag output and the 412 mapping of the task endpoints.
+ */
+class TaskControllerConditionalRequestTest {
+
+    private static final Integer BOARD_ID = 7;
+    private static final UUID TASK_ID = UUID.randomUUID();
+
+    private TaskService taskService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        taskService = mock(TaskService.class);
+        mockMvc = MockMvcBuilders
+                .standaloneSetup(new TaskController(taskService, mock(TaskExportService.class), mock(BoardService.class)))
+                .setControllerAdvice(new MainExceptionHandler())
+                .setCustomArgumentResolvers(new AuthenticationPrincipalArgumentResolver())
+                .build();
+    }
+
+    @Test
+    void passesPlainQuotedAndWeakVersionsToTheService() throws Exception {
+        when(taskService.updateTaskStatus(eq(BOARD_ID), eq(TASK_ID), eq("DONE"), any(), any())).thenReturn(task(4L));
+
+        for (String ifMatch : new String[]{"3", "\"3\"", "W/\"3\""}) {
+            mockMvc.perform(updateStatus().header(HttpHeaders.IF_MATCH, ifMatch))
+                    .andExpect(status().isOk());
+        }
+
+        verify(taskService, times(3))
+                .updateTaskStatus(eq(BOARD_ID), eq(TASK_ID), eq("DONE"), eq(3L), any());
+    }
+
+    @Test
+    void treatsWildcardAndMissingHeaderAsNoPrecondition() throws Exception {
+        when(taskService.updateTaskStatus(eq(BOARD_ID), eq(TASK_ID), eq("DONE"), any(), any())).thenReturn(task(4L));
+
+        mockMvc.perform(updateStatus().header(HttpHeaders.IF_MATCH, "*")).andExpect(status().isOk());
+        mockMvc.perform(updateStatus()).andExpect(status().isOk());
+
+        verify(taskService, times(2))
+                .updateTaskStatus(eq(BOARD_ID), eq(TASK_ID), eq("DONE"), isNull(), any());
+    }
+
+    @Test
+    void returnsTheNewVersionAsETag() throws Exception {
+        when(taskService.updateTaskStatus(eq(BOARD_ID), eq(TASK_ID), eq("DONE"), any(), any())).thenReturn(task(4L));
+
+        mockMvc.perform(updateStatus().header(HttpHeaders.IF_MATCH, "\"3\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""));
+    }
+
+    @Test
+    void rejectsMalformedIfMatchWithBadRequest() throws Exception {
+        mockMvc.perform(updateStatus().header(HttpHeaders.IF_MATCH, "\"abc\""))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(taskService);
+    }
+
+    @Test
+    void mapsVersionMismatchToPreconditionFailed() throws Exception {
+        when(taskService.updateTaskStatus(eq(BOARD_ID), eq(TASK_ID), eq("DONE"), eq(2L), any()))
+                .thenThrow(new PreconditionFailedException("Task version 3 does not match expected version 2"));
+
+        mockMvc.perform(updateStatus().header(HttpHeaders.IF_MATCH, "\"2\""))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    void mapsVersionMismatchOnDeleteToPreconditionFailed() throws Exception {
+        doThrow(new PreconditionFailedException("Task version 3 does not match expected version 2"))
+                .when(taskService).deleteTask(eq(BOARD_ID), eq(TASK_ID), eq(2L), any());
+
+        mockMvc.perform(delete("/api/v1/board/{boardId}/task/{taskId}", BOARD_ID, TASK_ID)
+                        .header(HttpHeaders.IF_MATCH, "W/\"2\""))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    private static MockHttpServletRequestBuilder updateStatus() {
+        return patch("/api/v1/board/{boardId}/task/{taskId}/status", BOARD_ID, TASK_ID)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\":\"DONE\"}");
+    }
+
+    private static TaskDto task(Long version) {
+        TaskDto task = new TaskDto();
+        task.setId(TASK_ID);
+        task.setBoardId(BOARD_ID);
+        task.setTitle("Task");
+        task.setStatus("DONE");
+        task.setVersion(version);
+        return task;
+    }
+}
@@ -0,0 +1,152 @@
+package com.board.manager.repository;
+
+import com.board.manager.model.Board;
+import com.board.manager.model.BoardMember;
+import com.board.manager.model.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The board list queries behind GET /api/v1/board: owned and shared boards in one statement per page, each
+ * board once however many memberships match, and no deleted boards.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class BoardRepositoryAccessQueryTest {
+
+    // Same order as BoardServiceImpl
+    private static final Sort BOARD_ORDER = Sort.by("name", "id");
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    private Integer aliceId;
+    private Integer daveId;
+
+    @BeforeEach
+    void setUp() {
+        User alice = entityManager.persist(user("alice"));
+        User bob = entityManager.persist(user("bob"));
+        User carol = entityManager.persist(user("carol"));
+        User dave = entityManager.persist(user("dave"));
+        aliceId = alice.getId();
+        daveId = dave.getId();
+
+        // Owned, with the owner membership createBoard adds
+        Board ownedWithMembership = entityManager.persist(board("A1 owned", alice));
+        entityManager.persist(member(ownedWithMembership, alice, BoardMember.BoardRole.OWNER));
+        entityManager.persist(board("A2 owned", alice));
+        // Shared with alice
+        Board shared = entityManager.persist(board("B1 shared", bob));
+        entityManager.persist(member(shared, alice, BoardMember.BoardRole.EDITOR));
+        entityManager.persist(member(shared, carol, BoardMember.BoardRole.VIEWER));
+        // Not alice's
+        Board foreign = entityManager.persist(board("B2 foreign", bob));
+        entityManager.persist(member(foreign, carol, BoardMember.BoardRole.EDITOR));
+        Board sharedByCarol = entityManager.persist(board("C1 shared", carol));
+        entityManager.persist(member(sharedByCarol, alice, BoardMember.BoardRole.VIEWER));
+        entityManager.persist(member(sharedByCarol, bob, BoardMember.BoardRole.VIEWER));
+        // Deleted boards are never listed, owned or shared
+        Board deleted = board("A0 deleted [deleted #0]", alice);
+        deleted.setDeleted(true);
+        deleted.setDeletedAt(LocalDateTime.now());
+        entityManager.persist(member(entityManager.persist(deleted), alice, BoardMember.BoardRole.OWNER));
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void listsOwnedAndSharedBoardsOncePerPage() {
+        Statistics statistics = statistics();
+
+        List<Board> firstPage = boardRepository.findAccessibleBy(aliceId, PageRequest.of(0, 3, BOARD_ORDER));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        List<Board> secondPage = boardRepository.findAccessibleBy(aliceId, PageRequest.of(1, 3, BOARD_ORDER));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+
+        assertThat(names(firstPage)).containsExactly("A1 owned", "A2 owned", "B1 shared");
+        assertThat(names(secondPage)).containsExactly("C1 shared");
+    }
+
+    @Test
+    void listsEveryAccessibleBoardUnpaged() {
+        Statistics statistics = statistics();
+
+        List<Board> boards = boardRepository.findAccessibleBy(aliceId, Pageable.unpaged(BOARD_ORDER));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(names(boards)).containsExactly("A1 owned", "A2 owned", "B1 shared", "C1 shared");
+    }
+
+    @Test
+    void listsNothingForUserWithoutBoards() {
+        assertThat(boardRepository.findAccessibleBy(daveId, Pageable.unpaged(BOARD_ORDER))).isEmpty();
+    }
+
+    @Test
+    void listsEveryActiveBoardForAdmins() {
+        Statistics statistics = statistics();
+
+        List<Board> firstPage = boardRepository.findAllByDeletedFalse(PageRequest.of(0, 2, BOARD_ORDER));
+        List<Board> secondPage = boardRepository.findAllByDeletedFalse(PageRequest.of(1, 2, BOARD_ORDER));
+        List<Board> thirdPage = boardRepository.findAllByDeletedFalse(PageRequest.of(2, 2, BOARD_ORDER));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(names(firstPage)).containsExactly("A1 owned", "A2 owned");
+        assertThat(names(secondPage)).containsExactly("B1 shared", "B2 foreign");
+        assertThat(names(thirdPage)).containsExactly("C1 shared");
+    }
+
+    private Statistics statistics() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        return statistics;
+    }
+
+    private static List<String> names(List<Board> boards) {
+        return boards.stream().map(Board::getName).toList();
+    }
+
+    private static Board board(String name, User owner) {
+        Board board = new Board();
+        board.setName(name);
+        board.setOwner(owner);
+        return board;
+    }
+
+    private static BoardMember member(Board board, User user, BoardMember.BoardRole role) {
+        BoardMember member = new BoardMember();
+        member.setBoard(board);
+        member.setUser(user);
+        member.setRole(role);
+        return member;
+    }
+
+    private static User user(String username) {
+        User user = new User();
+        user.setUsername(username);
+        user.setEmail(username + "@example.com");
+        user.setPassword("password");
+        return user;
+    }
+}
@@ -0,0 +1,90 @@
+package com.board.manager.repository;
+
+import com.board.manager.model.Board;
+import com.board.manager.model.Task;
+import com.board.manager.model.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Guards the board task read path against N+1 selects on owner and assignee.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class TaskRepositoryQueryCountTest {
+
+    private static final int TASKS = 50;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    private Integer boardId;
+
+    @BeforeEach
+    void setUp() {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            users.add(entityManager.persist(user("user" + i)));
+        }
+
+        Board board = new Board();
+        board.setName("Query count board");
+        board.setOwner(users.get(0));
+        boardId = entityManager.persist(board).getId();
+
+        for (int i = 0; i < TASKS; i++) {
+            Task task = new Task();
+            task.setTitle("Task " + i);
+            task.setStatus(Task.Status.TODO);
+            task.setBoard(board);
+            task.setOwner(users.get(i % users.size()));
+            // Leave some tasks unassigned so the left join is exercised
+            task.setAssignedTo(i % 3 == 0 ? null : users.get((i + 1) % users.size()));
+            entityManager.persist(task);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void loadsBoardTasksWithUsersInOneStatement() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<Task> tasks = taskRepository.findAllWithUsersByBoardId(boardId);
+        // Touch the associations the mapper reads
+        for (Task task : tasks) {
+            assertThat(task.getOwner().getUsername()).isNotNull();
+            if (task.getAssignedTo() != null) {
+                assertThat(task.getAssignedTo().getUsername()).isNotNull();
+            }
+        }
+
+        assertThat(tasks).hasSize(TASKS);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private static User user(String username) {
+        User user = new User();
+        user.setUsername(username);
+        user.setEmail(username + "@example.com");
+        user.setPassword("password");
+        return user;
+    }
+}
@@ -0,0 +1,126 @@
+package com.board.manager.service;
+
+import com.board.manager.dto.BoardUpdateDto;
+import com.board.manager.dto.TaskDto;
+import com.board.manager.dto.UserSummaryDto;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The streaming encoder must produce the same JSON as the ObjectMapper Spring Boot configures for the
+ * message converter, which is what clients received before it existed.
+ */
+class BoardUpdateEncoderTest {
+
+    // Same defaults as Boot's auto-configured mapper: java.time support, ISO dates, nulls included
+    private final ObjectMapper mapper = Jackson2ObjectMapperBuilder.json().build();
+    private final BoardUpdateEncoder encoder = new BoardUpdateEncoder();
+
+    @Test
+    void fullUpdateMatchesObjectMapper() throws Exception {
+        assertMatchesObjectMapper(taskUpdate(BoardUpdateDto.UpdateType.TASK_UPDATED, task()));
+    }
+
+    @Test
+    void batchMatchesObjectMapper() throws Exception {
+        BoardUpdateDto batch = BoardUpdateDto.builder()
+                .type(BoardUpdateDto.UpdateType.BATCH)
+                .boardId(7)
+                .message("3 changes")
+                .timestamp(LocalDateTime.of(2024, 5, 1, 12, 0))
+                .updates(List.of(
+                        taskUpdate(BoardUpdateDto.UpdateType.TASK_CREATED, task()),
+                        taskUpdate(BoardUpdateDto.UpdateType.TASK_DELETED, null),
+                        BoardUpdateDto.builder()
+                                .type(BoardUpdateDto.UpdateType.USER_JOINED)
+                                .boardId(7)
+                                .userId(3)
+                                .username("bob")
+                                .build()))
+                .build();
+
+        assertMatchesObjectMapper(batch);
+    }
+
+    @Test
+    void updateWithNullFieldsMatchesObjectMapper() throws Exception {
+        TaskDto sparseTask = new TaskDto();
+        sparseTask.setId(UUID.randomUUID());
+        BoardUpdateDto sparse = BoardUpdateDto.builder()
+                .type(BoardUpdateDto.UpdateType.TASK_UPDATED)
+                .taskData(sparseTask)
+                .build();
+
+        assertMatchesObjectMapper(sparse);
+        assertMatchesObjectMapper(new BoardUpdateDto());
+    }
+
+    @Test
+    void deltaReplacesTaskDataWithChanges() throws Exception {
+        Map<String, Object> changes = new LinkedHashMap<>();
+        changes.put("status", "DONE");
+        changes.put("assignedTo", user(3, "bob"));
+        changes.put("description", null);
+        BoardUpdateDto update = taskUpdate(BoardUpdateDto.UpdateType.TASK_UPDATED, task()).toBuilder()
+                .changes(changes)
+                .build();
+
+        JsonNode delta = mapper.readTree(encoder.encode(update, true));
+
+        assertThat(delta).isEqualTo(mapper.readTree(mapper.writeValueAsBytes(update.toBuilder().taskData(null).build())));
+        // The full form never carries changes
+        assertThat(mapper.readTree(encoder.encode(update, false)))
+                .isEqualTo(mapper.readTree(mapper.writeValueAsBytes(update.toBuilder().changes(null).build())));
+    }
+
+    private void assertMatchesObjectMapper(BoardUpdateDto update) throws Exception {
+        JsonNode encoded = mapper.readTree(encoder.encode(update, false));
+        JsonNode expected = mapper.readTree(mapper.writeValueAsBytes(update));
+        assertThat(encoded).isEqualTo(expected);
+    }
+
+    private static BoardUpdateDto taskUpdate(BoardUpdateDto.UpdateType type, TaskDto task) {
+        return BoardUpdateDto.builder()
+                .type(type)
+                .boardId(7)
+                .taskId(task != null ? task.getId() : UUID.randomUUID())
+                .taskData(task)
+                .version(task != null ? task.getVersion() : null)
+                .userId(2)
+                .username("alice")
+                .message("Task changed by alice")
+                // Nanosecond precision, as LocalDateTime.now() produces
+                .timestamp(LocalDateTime.of(2024, 5, 1, 12, 30, 15, 123_456_789))
+                .build();
+    }
+
+    private static TaskDto task() {
+        TaskDto task = new TaskDto();
+        task.setId(UUID.randomUUID());
+        task.setTitle("Write \"quoted\" title\nwith a newline");
+        task.setBoardId(7);
+        task.setDescription("Unicode: zażółć");
+        task.setOwner(user(2, "alice"));
+        task.setAssignedTo(user(3, "bob"));
+        task.setStatus("IN_PROGRESS");
+        task.setVersion(5L);
+        return task;
+    }
+
+    private static UserSummaryDto user(Integer id, String username) {
+        UserSummaryDto user = new UserSummaryDto();
+        user.setId(id);
+        user.setUsername(username);
+        return user;
+    }
+}
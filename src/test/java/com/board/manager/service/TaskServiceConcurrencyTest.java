@@ -0,0 +1,204 @@
+package com.board.manager.service;
+
+import com.board.manager.cache.BoardAccessTracker;
+import com.board.manager.cache.BoardTaskCache;
+import com.board.manager.dto.BoardTaskStatsDto;
+import com.board.manager.dto.TaskDto;
+import com.board.manager.exception.PreconditionFailedException;
+import com.board.manager.mapper.TaskMapperImpl;
+import com.board.manager.model.Board;
+import com.board.manager.model.BoardTaskStats;
+import com.board.manager.model.Task;
+import com.board.manager.model.User;
+import com.board.manager.repository.BoardRepository;
+import com.board.manager.repository.BoardTaskStatsRepository;
+import com.board.manager.repository.TaskRepository;
+import com.board.manager.repository.UserRepository;
+import com.board.manager.service.notification.NotificationService;
+import com.board.manager.service.search.TaskSearchIndex;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Many writers racing on one task through TaskServiceImpl, each with the version it last read. Every version
+ * must be taken by exactly one writer, and the task and its board counters must reflect every accepted write.
+ */
+@DataJpaTest
+@Import({TaskServiceImpl.class, TaskMapperImpl.class, BoardTaskStatsService.class})
+// Each write commits in its own transaction, as it does in production
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TaskServiceConcurrencyTest {
+
+    private static final int WRITERS = 8;
+    private static final int ATTEMPTS_PER_WRITER = 25;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BoardTaskStatsRepository statsRepository;
+
+    @MockitoBean
+    private CacheService cacheService;
+
+    @MockitoBean
+    private NotificationService notificationService;
+
+    @MockitoBean
+    private WebSocketService webSocketService;
+
+    @MockitoBean
+    private TaskSearchIndex taskSearchIndex;
+
+    @MockitoBean
+    private BoardTaskCache boardTaskCache;
+
+    @MockitoBean
+    private BoardAccessTracker boardAccessTracker;
+
+    private User user;
+    private Integer boardId;
+    private UUID taskId;
+
+    @BeforeEach
+    void setUp() {
+        user = new User();
+        user.setUsername("writer");
+        user.setEmail("writer@example.com");
+        user.setPassword("password");
+        user = userRepository.save(user);
+
+        Board board = new Board();
+        board.setName("Contended board");
+        board.setOwner(user);
+        boardId = boardRepository.save(board).getId();
+
+        Task task = new Task();
+        task.setTitle("Contended task");
+        task.setStatus(Task.Status.TODO);
+        task.setBoard(board);
+        task.setOwner(user);
+        taskId = taskRepository.save(task).getId();
+
+        List<BoardTaskStats> stripes = new ArrayList<>();
+        for (int stripe = 0; stripe < BoardTaskStatsService.STRIPES; stripe++) {
+            stripes.add(new BoardTaskStats(boardId, stripe));
+        }
+        stripes.get(0).setTodoCount(1);
+        statsRepository.saveAll(stripes);
+    }
+
+    @AfterEach
+    void tearDown() {
+        statsRepository.deleteAll();
+        taskRepository.deleteAll();
+        boardRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void everyVersionIsTakenByExactlyOneWriter() throws Exception {
+        long initialVersion = taskRepository.findById(taskId).orElseThrow().getVersion();
+        Map<Long, AtomicInteger> winnersByVersion = new ConcurrentHashMap<>();
+        AtomicInteger conflicts = new AtomicInteger();
+        List<Throwable> unexpected = new CopyOnWriteArrayList<>();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService writers = Executors.newFixedThreadPool(WRITERS);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < WRITERS; i++) {
+            futures.add(writers.submit(() -> {
+                start.await();
+                for (int attempt = 0; attempt < ATTEMPTS_PER_WRITER; attempt++) {
+                    // May already be stale by the time the update runs, which is the point
+                    Task seen = taskRepository.findById(taskId).orElseThrow();
+                    try {
+                        TaskDto updated = taskService.updateTaskStatus(boardId, taskId,
+                                next(seen.getStatus()).name(), seen.getVersion(), user);
+                        assertThat(updated.getVersion()).isEqualTo(seen.getVersion() + 1);
+                        winnersByVersion.computeIfAbsent(seen.getVersion(), v -> new AtomicInteger()).incrementAndGet();
+                    } catch (PreconditionFailedException | ObjectOptimisticLockingFailureException e) {
+                        conflicts.incrementAndGet();
+                    } catch (RuntimeException | AssertionError e) {
+                        unexpected.add(e);
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        writers.shutdown();
+
+        assertThat(unexpected).isEmpty();
+        assertThat(winnersByVersion.values()).allSatisfy(winners -> assertThat(winners).hasValue(1));
+        int successes = winnersByVersion.size();
+        assertThat(successes + conflicts.get()).isEqualTo(WRITERS * ATTEMPTS_PER_WRITER);
+
+        // Versions were taken one after another, with no gaps and no write lost
+        Task finalTask = taskRepository.findById(taskId).orElseThrow();
+        assertThat(finalTask.getVersion()).isEqualTo(initialVersion + successes);
+        assertThat(winnersByVersion.keySet())
+                .containsExactlyInAnyOrderElementsOf(versionsFrom(initialVersion, successes));
+
+        // Every accepted status change reached the counters exactly once
+        BoardTaskStatsDto stats = statsRepository.findTotalsByBoardId(boardId).orElseThrow();
+        assertThat(count(stats, finalTask.getStatus())).isEqualTo(1);
+        assertThat(stats.getTotalCount()).isEqualTo(1);
+    }
+
+    private static Task.Status next(Task.Status status) {
+        Task.Status[] statuses = Task.Status.values();
+        return statuses[(status.ordinal() + 1) % statuses.length];
+    }
+
+    private static List<Long> versionsFrom(long initialVersion, int count) {
+        List<Long> versions = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            versions.add(initialVersion + i);
+        }
+        return versions;
+    }
+
+    private static long count(BoardTaskStatsDto stats, Task.Status status) {
+        return switch (status) {
+            case TODO -> stats.getTodoCount();
+            case IN_PROGRESS -> stats.getInProgressCount();
+            case DONE -> stats.getDoneCount();
+        };
+    }
+}
@@ -0,0 +1,35 @@
+package com.board.manager.service;
+
+import com.board.manager.exception.PreconditionFailedException;
+import com.board.manager.model.Task;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TaskServiceImplCheckVersionTest {
+
+    @Test
+    void acceptsMatchingVersion() {
+        assertThatCode(() -> TaskServiceImpl.checkVersion(task(3L), 3L)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void acceptsMissingPrecondition() {
+        assertThatCode(() -> TaskServiceImpl.checkVersion(task(3L), null)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void rejectsStaleVersion() {
+        assertThatThrownBy(() -> TaskServiceImpl.checkVersion(task(4L), 3L))
+                .isInstanceOf(PreconditionFailedException.class)
+                .hasMessageContaining("Task version 4")
+                .hasMessageContaining("expected version 3");
+    }
+
+    private static Task task(Long version) {
+        Task task = new Task();
+        task.setVersion(version);
+        return task;
+    }
+}
@@ -0,0 +1,63 @@
+package com.board.manager.service;
+
+import com.board.manager.cache.CacheInvalidationBus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TokenVersionServiceTest {
+
+    private static final String VERSION_KEY = "auth:token-version:7";
+
+    private ValueOperations<String, String> redisValues;
+    private CacheInvalidationBus invalidationBus;
+    private TokenVersionService tokenVersionService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        redisValues = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(redisValues);
+        invalidationBus = mock(CacheInvalidationBus.class);
+        tokenVersionService = new TokenVersionService(redisTemplate, invalidationBus, 100, 30);
+    }
+
+    @Test
+    void revocationFailurePropagates() {
+        when(redisValues.get(VERSION_KEY)).thenReturn("3");
+        assertThat(tokenVersionService.currentVersion(7)).isEqualTo(3);
+        when(redisValues.increment(VERSION_KEY)).thenThrow(new RedisConnectionFailureException("down"));
+
+        assertThatThrownBy(() -> tokenVersionService.revokeTokens(7))
+                .isInstanceOf(IllegalStateException.class)
+                .hasCauseInstanceOf(RedisConnectionFailureException.class);
+
+        // Nothing was revoked, so nothing is announced either
+        verify(invalidationBus, never()).publishEvict(anyString(), any());
+    }
+
+    @Test
+    void revocationIsAnnouncedToOtherNodes() {
+        when(redisValues.get(VERSION_KEY)).thenReturn("3");
+        assertThat(tokenVersionService.currentVersion(7)).isEqualTo(3);
+        when(redisValues.increment(VERSION_KEY)).thenReturn(4L);
+        when(redisValues.get(VERSION_KEY)).thenReturn("4");
+
+        tokenVersionService.revokeTokens(7);
+
+        assertThat(tokenVersionService.currentVersion(7)).isEqualTo(4);
+        verify(invalidationBus).publishEvict("tokenVersions", "7");
+    }
+}
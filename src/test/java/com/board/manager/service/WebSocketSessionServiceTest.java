@@ -0,0 +1,121 @@
+package com.board.manager.service;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the presence scripts against a real Redis, since the Lua cannot be exercised through mocks.
+ * Skipped where Docker is not available.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class WebSocketSessionServiceTest {
+
+    @Container
+    private static final GenericContainer<?> REDIS =
+            new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+
+    private StringRedisTemplate redisTemplate;
+    private WebSocketSessionService sessionService;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+        sessionService = new WebSocketSessionService(redisTemplate);
+        ReflectionTestUtils.setField(sessionService, "sessionTimeoutHours", 24);
+    }
+
+    @Test
+    void joinReportsOnlyTheFirstJoin() {
+        assertThat(sessionService.addUserToBoard(1, "alice")).isTrue();
+        assertThat(sessionService.addUserToBoard(1, "alice")).isFalse();
+        assertThat(sessionService.addUserToBoard(2, "alice")).isTrue();
+
+        assertThat(sessionService.getBoardUsers(1)).containsExactly("alice");
+        assertThat(sessionService.getUserBoards("alice")).containsExactlyInAnyOrder(1, 2);
+        assertThat(redisTemplate.getExpire("ws:board:1")).isPositive();
+        assertThat(redisTemplate.getExpire("ws:user:boards:alice")).isPositive();
+    }
+
+    @Test
+    void leaveRemovesBothSidesAndDropsEmptySets() {
+        sessionService.addUserToBoard(1, "alice");
+        sessionService.addUserToBoard(1, "bob");
+
+        sessionService.removeUserFromBoard(1, "alice");
+
+        assertThat(sessionService.isUserActiveOnBoard(1, "alice")).isFalse();
+        assertThat(sessionService.getBoardUsers(1)).containsExactly("bob");
+        assertThat(redisTemplate.hasKey("ws:user:boards:alice")).isFalse();
+
+        // Leaving again is a no-op
+        sessionService.removeUserFromBoard(1, "alice");
+        assertThat(sessionService.getBoardUsers(1)).containsExactly("bob");
+    }
+
+    @Test
+    void disconnectReturnsTheUserAndTheBoardsTheyLeft() {
+        sessionService.registerSession("session-1", "alice");
+        sessionService.addUserToBoard(1, "alice");
+        sessionService.addUserToBoard(2, "alice");
+        sessionService.addUserToBoard(2, "bob");
+
+        WebSocketSessionService.DisconnectedSession disconnected = sessionService.disconnectSession("session-1");
+
+        assertThat(disconnected.username()).isEqualTo("alice");
+        assertThat(disconnected.boardIds()).isEqualTo(Set.of(1, 2));
+        assertThat(sessionService.getSessionUser("session-1")).isNull();
+        assertThat(sessionService.getUserBoards("alice")).isEmpty();
+        assertThat(redisTemplate.hasKey("ws:board:1")).isFalse();
+        assertThat(sessionService.getBoardUsers(2)).containsExactly("bob");
+    }
+
+    @Test
+    void disconnectWithoutBoardsReturnsOnlyTheUser() {
+        sessionService.registerSession("session-1", "alice");
+
+        WebSocketSessionService.DisconnectedSession disconnected = sessionService.disconnectSession("session-1");
+
+        assertThat(disconnected.username()).isEqualTo("alice");
+        assertThat(disconnected.boardIds()).isEmpty();
+    }
+
+    @Test
+    void disconnectOfUnknownSessionReturnsNull() {
+        sessionService.addUserToBoard(1, "alice");
+
+        assertThat(sessionService.disconnectSession("unknown")).isNull();
+        assertThat(sessionService.getBoardUsers(1)).containsExactly("alice");
+    }
+}